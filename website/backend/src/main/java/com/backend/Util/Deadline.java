@@ -0,0 +1,197 @@
+package com.backend.Util;
+
+import com.backend.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prazo de uma requisição, definido no controller e repassado a todo o trabalho feito por ela.
+ * O prazo da thread atual fica num ThreadLocal (como o SecurityContextHolder) e segue as tarefas
+ * submetidas ao semanticExecutor; as chamadas externas recebem só o tempo que ainda resta
+ * ({@link #limit(Duration)}). Quando o prazo acaba ou o cliente desconecta, {@link #cancel()}
+ * executa os callbacks registrados (ex.: interromper as threads que ainda trabalham para a requisição).
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAt;
+    private final Duration budget;
+    private final Map<Long, Runnable> onCancel = new ConcurrentHashMap<>();
+    private final AtomicLong nextCallback = new AtomicLong();
+    private volatile boolean cancelled;
+
+    private Deadline(Duration budget) {
+        this.budget = budget;
+        this.expiresAt = System.nanoTime() + budget.toNanos();
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(budget);
+    }
+
+    /**
+     * Prazo da thread atual, ou null fora de uma requisição (tarefas agendadas, atualização de caches).
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Associa o prazo à thread atual até o close() do Scope, que restaura o anterior.
+     */
+    public static Scope attach(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        set(deadline);
+        return () -> set(previous);
+    }
+
+    /**
+     * Menor valor entre o timeout da chamada e o tempo que resta do prazo atual; sem prazo na thread,
+     * o próprio timeout. Lança {@link DeadlineExceededException} se o prazo já acabou.
+     */
+    public static Duration limit(Duration timeout) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return timeout;
+        }
+        Duration remaining = deadline.remaining();
+        if (remaining.isZero()) {
+            throw deadline.exceeded();
+        }
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    /**
+     * Lança {@link DeadlineExceededException} se o prazo atual acabou ou foi cancelado.
+     */
+    public static void checkCurrent() {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw deadline.exceeded();
+        }
+    }
+
+    /**
+     * Pega uma vaga do semáforo esperando no máximo o que resta do prazo atual (sem prazo, o quanto
+     * for preciso). Lança {@link DeadlineExceededException} se o prazo acabar antes.
+     */
+    public static void acquire(Semaphore permits) {
+        Deadline deadline = CURRENT.get();
+        try {
+            if (deadline == null) {
+                permits.acquire();
+            } else if (!permits.tryAcquire(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw deadline.exceeded();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            checkCurrent();
+            throw new IllegalStateException("Espera interrompida", e);
+        }
+    }
+
+    /**
+     * Como o join(), mas desiste com {@link DeadlineExceededException} quando o prazo atual acaba;
+     * a falha do future é relançada sem o ExecutionException em volta.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        Deadline deadline = CURRENT.get();
+        try {
+            if (deadline == null) {
+                return future.get();
+            }
+            return future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw deadline.exceeded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            checkCurrent();
+            throw new IllegalStateException("Espera interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Tempo restante (zero depois do fim do prazo ou do cancelamento).
+     */
+    public Duration remaining() {
+        long nanos = expiresAt - System.nanoTime();
+        return cancelled || nanos <= 0 ? Duration.ZERO : Duration.ofNanos(nanos);
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    public boolean isExpired() {
+        return cancelled || System.nanoTime() - expiresAt >= 0;
+    }
+
+    public DeadlineExceededException exceeded() {
+        return new DeadlineExceededException(cancelled && System.nanoTime() - expiresAt < 0
+                ? "Requisição cancelada"
+                : "Prazo de " + budget.toMillis() + " ms da requisição esgotado");
+    }
+
+    /**
+     * Registra um callback executado no cancelamento (na hora, se o prazo já foi cancelado).
+     * O close() do Scope devolvido remove o registro.
+     */
+    public Scope onCancel(Runnable callback) {
+        long id = nextCallback.incrementAndGet();
+        onCancel.put(id, callback);
+        if (cancelled && onCancel.remove(id) != null) {
+            callback.run();
+        }
+        return () -> onCancel.remove(id);
+    }
+
+    /**
+     * Marca o prazo como esgotado e executa os callbacks registrados; chamadas repetidas não têm efeito.
+     */
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        for (Long id : onCancel.keySet()) {
+            Runnable callback = onCancel.remove(id);
+            if (callback != null) {
+                callback.run();
+            }
+        }
+    }
+
+    private static void set(Deadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Escopo de uma associação ou registro, para uso em try-with-resources.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,254 @@
+package com.backend.Util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Grafo de relações lexicais (sinônimo, antônimo, hiperônimo, derivação...) em formato CSR.
+ * Cada palavra vira um id inteiro (posição no array ordenado de palavras) e as arestas ficam em
+ * arrays paralelos de destino, relação e peso; as arestas de uma palavra são o trecho
+ * [offsets[id], offsets[id + 1]) desses arrays, ordenado por relação e depois por peso decrescente.
+ * Sem um objeto por aresta ou por palavra, um grafo de 150 mil palavras ocupa dezenas de MB.
+ */
+public final class LexicalRelationGraph {
+
+    public enum Relation {
+        SYNONYM("synonym", true),
+        ANTONYM("antonym", true),
+        HYPERNYM("hypernym", false),
+        DERIVATION("derivation", true),
+        DOMAIN("domain", false),
+        RELATED("related", true);
+
+        private static final Relation[] VALUES = values();
+
+        private final String id;
+        private final boolean symmetric;
+
+        Relation(String id, boolean symmetric) {
+            this.id = id;
+            this.symmetric = symmetric;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public static Relation fromId(String id) {
+            for (Relation relation : VALUES) {
+                if (relation.id.equals(id)) {
+                    return relation;
+                }
+            }
+            return null;
+        }
+    }
+
+    public record Edge(String word, Relation relation, float weight) {
+    }
+
+    private final String[] words;
+    private final int[] offsets;
+    private final int[] targets;
+    private final byte[] relations;
+    private final float[] weights;
+
+    private LexicalRelationGraph(String[] words, int[] offsets, int[] targets, byte[] relations, float[] weights) {
+        this.words = words;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.relations = relations;
+        this.weights = weights;
+    }
+
+    public static LexicalRelationGraph empty() {
+        return new Builder().build();
+    }
+
+    public int wordCount() {
+        return words.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Tamanho aproximado dos arrays do grafo, em bytes (sem contar as strings das palavras).
+     */
+    public long approximateBytes() {
+        return (long) words.length * 4 + (long) offsets.length * 4
+                + (long) targets.length * 4 + relations.length + (long) weights.length * 4;
+    }
+
+    /**
+     * Vizinhos da palavra (já normalizada) pelas relações pedidas, na ordem das relações no enum e,
+     * dentro de cada relação, do maior peso para o menor; no máximo {@code limitPerRelation} por relação.
+     */
+    public List<Edge> neighbours(String word, Set<Relation> wanted, int limitPerRelation) {
+        int id = Arrays.binarySearch(words, word);
+        if (id < 0) {
+            return List.of();
+        }
+        List<Edge> edges = new ArrayList<>();
+        int taken = 0;
+        int currentRelation = -1;
+        for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+            if (relations[i] != currentRelation) {
+                currentRelation = relations[i];
+                taken = 0;
+            }
+            Relation relation = Relation.VALUES[relations[i]];
+            if (taken < limitPerRelation && wanted.contains(relation)) {
+                edges.add(new Edge(words[targets[i]], relation, weights[i]));
+                taken++;
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Acumula as arestas lidas do arquivo, com ids provisórios em ordem de chegada; o build() ordena as
+     * palavras, renumera os ids e monta os arrays CSR. Relações simétricas ganham a aresta inversa.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private int[] sources = new int[1024];
+        private int[] destinations = new int[1024];
+        private byte[] edgeRelations = new byte[1024];
+        private float[] edgeWeights = new float[1024];
+        private int size;
+
+        public Builder add(String source, Relation relation, String target, float weight) {
+            if (source.equals(target)) {
+                return this;
+            }
+            int from = intern(source);
+            int to = intern(target);
+            append(from, relation, to, weight);
+            if (relation.symmetric) {
+                append(to, relation, from, weight);
+            }
+            return this;
+        }
+
+        public LexicalRelationGraph build() {
+            // Ids definitivos: posição da palavra no array ordenado (a busca vira binarySearch)
+            String[] words = names.toArray(new String[0]);
+            Integer[] order = new Integer[words.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> words[a].compareTo(words[b]));
+            String[] sorted = new String[words.length];
+            int[] remap = new int[words.length];
+            for (int i = 0; i < order.length; i++) {
+                sorted[i] = words[order[i]];
+                remap[order[i]] = i;
+            }
+
+            // Contagem por origem, como num counting sort
+            int[] offsets = new int[sorted.length + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[remap[sources[i]] + 1]++;
+            }
+            for (int i = 0; i < sorted.length; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            int[] next = Arrays.copyOf(offsets, sorted.length);
+            int[] targets = new int[size];
+            byte[] relations = new byte[size];
+            float[] weights = new float[size];
+            for (int i = 0; i < size; i++) {
+                int slot = next[remap[sources[i]]]++;
+                targets[slot] = remap[destinations[i]];
+                relations[slot] = edgeRelations[i];
+                weights[slot] = edgeWeights[i];
+            }
+
+            // Cada trecho é ordenado e as arestas repetidas (mesma relação e destino) ficam com o maior peso
+            int[] compactOffsets = new int[sorted.length + 1];
+            int written = 0;
+            for (int id = 0; id < sorted.length; id++) {
+                compactOffsets[id] = written;
+                written = sortAndDeduplicate(offsets[id], offsets[id + 1], written, targets, relations, weights);
+            }
+            compactOffsets[sorted.length] = written;
+            return new LexicalRelationGraph(sorted, compactOffsets,
+                    Arrays.copyOf(targets, written), Arrays.copyOf(relations, written), Arrays.copyOf(weights, written));
+        }
+
+        // Ordena o trecho [from, to) e o grava compactado a partir de "out" (out <= from); devolve o novo fim
+        private static int sortAndDeduplicate(int from, int to, int out, int[] targets, byte[] relations, float[] weights) {
+            int length = to - from;
+            Integer[] order = new Integer[length];
+            for (int i = 0; i < length; i++) {
+                order[i] = from + i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int cmp = Byte.compare(relations[a], relations[b]);
+                if (cmp != 0) {
+                    return cmp;
+                }
+                cmp = Integer.compare(targets[a], targets[b]);
+                return cmp != 0 ? cmp : Float.compare(weights[b], weights[a]);
+            });
+            List<Integer> unique = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                int edge = order[i];
+                if (i > 0 && relations[edge] == relations[order[i - 1]] && targets[edge] == targets[order[i - 1]]) {
+                    continue;
+                }
+                unique.add(edge);
+            }
+            unique.sort((a, b) -> {
+                int cmp = Byte.compare(relations[a], relations[b]);
+                return cmp != 0 ? cmp : Float.compare(weights[b], weights[a]);
+            });
+            int[] uniqueTargets = new int[unique.size()];
+            byte[] uniqueRelations = new byte[unique.size()];
+            float[] uniqueWeights = new float[unique.size()];
+            for (int i = 0; i < unique.size(); i++) {
+                int edge = unique.get(i);
+                uniqueTargets[i] = targets[edge];
+                uniqueRelations[i] = relations[edge];
+                uniqueWeights[i] = weights[edge];
+            }
+            System.arraycopy(uniqueTargets, 0, targets, out, unique.size());
+            System.arraycopy(uniqueRelations, 0, relations, out, unique.size());
+            System.arraycopy(uniqueWeights, 0, weights, out, unique.size());
+            return out + unique.size();
+        }
+
+        private int intern(String word) {
+            Integer id = ids.get(word);
+            if (id == null) {
+                id = names.size();
+                ids.put(word, id);
+                names.add(word);
+            }
+            return id;
+        }
+
+        private void append(int from, Relation relation, int to, float weight) {
+            if (size == sources.length) {
+                int capacity = size * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                destinations = Arrays.copyOf(destinations, capacity);
+                edgeRelations = Arrays.copyOf(edgeRelations, capacity);
+                edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+            }
+            sources[size] = from;
+            destinations[size] = to;
+            edgeRelations[size] = (byte) relation.ordinal();
+            edgeWeights[size] = weight;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.backend.Util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trie imutável de prefixos, armazenada em arrays paralelos (sem um objeto por nó).
+ * Cada nó guarda as palavras de maior pontuação abaixo dele, calculadas na construção,
+ * então uma consulta só percorre o prefixo e copia a lista pronta para o resultado.
+ */
+public final class PrefixTrie {
+
+    private final String[] words;
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] topLength;
+    private final int[] top;
+
+    private PrefixTrie(String[] words, char[] labels, int[] firstChild, int[] childCount,
+                       int[] topStart, int[] topLength, int[] top) {
+        this.words = words;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topLength = topLength;
+        this.top = top;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Adiciona ao resultado até {@code limit} palavras que começam com o prefixo,
+     * da maior para a menor pontuação.
+     */
+    public void suggest(String prefix, int limit, List<String> result) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = findChild(node, prefix.charAt(i));
+        }
+        if (node < 0) {
+            return;
+        }
+        int start = topStart[node];
+        int length = Math.min(topLength[node], limit);
+        for (int i = 0; i < length; i++) {
+            result.add(words[top[start + i]]);
+        }
+    }
+
+    private int findChild(int node, char c) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+            if (label < c) {
+                low = mid + 1;
+            } else if (label > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param sortedWords palavras distintas em ordem crescente ({@link String#compareTo})
+     * @param scores pontuação de cada palavra (maior = mais relevante)
+     * @param maxSuggestions quantas palavras guardar por nó
+     */
+    public static PrefixTrie build(String[] sortedWords, long[] scores, int maxSuggestions) {
+        // Construção em largura: os filhos de cada nó ficam contíguos e ordenados pelo caractere
+        IntArray lo = new IntArray();
+        IntArray hi = new IntArray();
+        IntArray depth = new IntArray();
+        IntArray label = new IntArray();
+        IntArray terminal = new IntArray();
+        IntArray first = new IntArray();
+        IntArray count = new IntArray();
+        lo.add(0);
+        hi.add(sortedWords.length);
+        depth.add(0);
+        label.add(0);
+        for (int node = 0; node < lo.size; node++) {
+            int start = lo.get(node);
+            int end = hi.get(node);
+            int d = depth.get(node);
+            if (start < end && sortedWords[start].length() == d) {
+                terminal.add(start);
+                start++;
+            } else {
+                terminal.add(-1);
+            }
+            first.add(lo.size);
+            int children = 0;
+            int i = start;
+            while (i < end) {
+                char c = sortedWords[i].charAt(d);
+                int j = i + 1;
+                while (j < end && sortedWords[j].charAt(d) == c) {
+                    j++;
+                }
+                lo.add(i);
+                hi.add(j);
+                depth.add(d + 1);
+                label.add(c);
+                children++;
+                i = j;
+            }
+            count.add(children);
+        }
+
+        int nodeCount = lo.size;
+        int[] topStart = new int[nodeCount];
+        int[] topLength = new int[nodeCount];
+        IntArray top = new IntArray();
+        int[] best = new int[maxSuggestions];
+        // Os filhos sempre têm índice maior que o pai, então basta percorrer de trás para frente
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            int children = count.get(node);
+            int term = terminal.get(node);
+            if (children == 1 && term < 0) {
+                // Nó de passagem: compartilha a lista do único filho
+                int child = first.get(node);
+                topStart[node] = topStart[child];
+                topLength[node] = topLength[child];
+                continue;
+            }
+            int size = 0;
+            if (term >= 0) {
+                size = insert(best, size, term, scores);
+            }
+            int child = first.get(node);
+            for (int c = 0; c < children; c++, child++) {
+                for (int k = 0; k < topLength[child]; k++) {
+                    size = insert(best, size, top.get(topStart[child] + k), scores);
+                }
+            }
+            topStart[node] = top.size;
+            topLength[node] = size;
+            for (int k = 0; k < size; k++) {
+                top.add(best[k]);
+            }
+        }
+
+        char[] labels = new char[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            labels[node] = (char) label.get(node);
+        }
+        return new PrefixTrie(sortedWords, labels, first.toArray(), count.toArray(), topStart, topLength, top.toArray());
+    }
+
+    // Insere a palavra na lista ordenada (pontuação decrescente, depois ordem alfabética), limitada ao tamanho do array
+    private static int insert(int[] best, int size, int word, long[] scores) {
+        int position = size;
+        while (position > 0 && ranksBefore(word, best[position - 1], scores)) {
+            position--;
+        }
+        if (position >= best.length) {
+            return size;
+        }
+        int newSize = Math.min(size + 1, best.length);
+        System.arraycopy(best, position, best, position + 1, newSize - position - 1);
+        best[position] = word;
+        return newSize;
+    }
+
+    private static boolean ranksBefore(int a, int b, long[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    private static final class IntArray {
+        private int[] data = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        int get(int index) {
+            return data[index];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.backend.Util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache com "stale-while-revalidate" sobre um cache do Caffeine de valores com data de carga:
+ * <ul>
+ *     <li>até o TTL suave, o valor é servido direto;</li>
+ *     <li>entre o TTL suave e o rígido, o valor é servido na hora e uma atualização é agendada
+ *     em segundo plano (uma por chave, limitada pelo rate limiter);</li>
+ *     <li>depois do TTL rígido, a chamada recarrega o valor, mas se a origem falhar o valor antigo
+ *     continua sendo servido até o fim do período de carência, quando o Caffeine o descarta.</li>
+ * </ul>
+ */
+@Slf4j
+public final class RefreshingCache<V> {
+
+    /**
+     * Relógio de parede como Ticker do Caffeine: as idades são contadas a partir de loadedAt (epoch),
+     * que também é o que vai para o snapshot dos caches.
+     */
+    public static final Ticker WALL_CLOCK = () -> TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+
+    private final String name;
+    private final Cache<String, Timestamped<V>> cache;
+    private final long softTtlMillis;
+    private final long hardTtlMillis;
+    private final long maxAgeMillis;
+    private final Executor refreshExecutor;
+    private final RateLimiter refreshLimiter;
+    private final Ticker ticker;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param cache cache criado com {@link #expiry(Duration)} usando {@code hardTtl + grace}
+     */
+    public RefreshingCache(String name, Cache<String, Timestamped<V>> cache, Duration softTtl, Duration hardTtl,
+                           Duration grace, Executor refreshExecutor, RateLimiter refreshLimiter) {
+        this(name, cache, softTtl, hardTtl, grace, refreshExecutor, refreshLimiter, WALL_CLOCK);
+    }
+
+    /**
+     * @param ticker relógio das idades (epoch em nanossegundos), o mesmo passado a {@link #expiry(Duration, Ticker)}
+     */
+    public RefreshingCache(String name, Cache<String, Timestamped<V>> cache, Duration softTtl, Duration hardTtl,
+                           Duration grace, Executor refreshExecutor, RateLimiter refreshLimiter, Ticker ticker) {
+        this.name = name;
+        this.cache = cache;
+        this.softTtlMillis = softTtl.toMillis();
+        this.hardTtlMillis = hardTtl.toMillis();
+        this.maxAgeMillis = hardTtl.plus(grace).toMillis();
+        this.refreshExecutor = refreshExecutor;
+        this.refreshLimiter = refreshLimiter;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Expiração do Caffeine calculada a partir da data de carga do valor (e não do momento da escrita),
+     * para que valores restaurados de um snapshot mantenham a idade original.
+     */
+    public static <V> Expiry<String, Timestamped<V>> expiry(Duration maxAge) {
+        return expiry(maxAge, WALL_CLOCK);
+    }
+
+    public static <V> Expiry<String, Timestamped<V>> expiry(Duration maxAge, Ticker ticker) {
+        long maxAgeNanos = maxAge.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, Timestamped<V> value, long currentTime) {
+                return remaining(value);
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, Timestamped<V> value, long currentTime, long currentDuration) {
+                return remaining(value);
+            }
+
+            @Override
+            public long expireAfterRead(String key, Timestamped<V> value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            private long remaining(Timestamped<V> value) {
+                long ageNanos = Duration.ofMillis(value.ageMillis(millis(ticker))).toNanos();
+                return Math.max(0, maxAgeNanos - ageNanos);
+            }
+        };
+    }
+
+    public V get(String key, Function<String, V> loader) {
+        Timestamped<V> entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return load(key, loader);
+        }
+        long age = entry.ageMillis(now());
+        if (age < softTtlMillis) {
+            return entry.value();
+        }
+        if (age < hardTtlMillis) {
+            scheduleRefresh(key, loader);
+            return entry.value();
+        }
+        try {
+            return load(key, loader);
+        } catch (RuntimeException e) {
+            log.warn("♻️ [{}] Falha ao recarregar '{}' ({}), servindo valor com {} min", name, key,
+                    e.getMessage(), Duration.ofMillis(age).toMinutes());
+            return entry.value();
+        }
+    }
+
+    /**
+     * Valor da chave se ele ainda puder ser servido sem recarga síncrona (idade abaixo do TTL rígido),
+     * agendando a atualização em segundo plano quando passou do TTL suave; caso contrário, null.
+     */
+    public V getIfServable(String key, Function<String, V> loader) {
+        Timestamped<V> entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        long age = entry.ageMillis(now());
+        if (age >= hardTtlMillis) {
+            return null;
+        }
+        if (age >= softTtlMillis) {
+            scheduleRefresh(key, loader);
+        }
+        return entry.value();
+    }
+
+    /**
+     * Valor da chave se ainda estiver dentro do TTL suave (não precisa de atualização); caso contrário, null.
+     */
+    public V getIfFresh(String key) {
+        Timestamped<V> entry = cache.getIfPresent(key);
+        if (entry == null || entry.ageMillis(now()) >= softTtlMillis) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Valor atual da chave, qualquer que seja a idade, sem recarregar.
+     */
+    public V getIfPresent(String key) {
+        Timestamped<V> entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.value();
+    }
+
+    public void put(String key, V value) {
+        cache.put(key, new Timestamped<>(value, now()));
+    }
+
+    /**
+     * Restaura um valor com a data de carga original, sem substituir um valor já presente.
+     */
+    public void restore(String key, V value, long loadedAt) {
+        if (now() - loadedAt < maxAgeMillis) {
+            cache.asMap().putIfAbsent(key, new Timestamped<>(value, loadedAt));
+        }
+    }
+
+    public Map<String, Timestamped<V>> asMap() {
+        return cache.asMap();
+    }
+
+    private long now() {
+        return millis(ticker);
+    }
+
+    private static long millis(Ticker ticker) {
+        return TimeUnit.NANOSECONDS.toMillis(ticker.read());
+    }
+
+    private V load(String key, Function<String, V> loader) {
+        V value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    private void scheduleRefresh(String key, Function<String, V> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        if (!refreshLimiter.acquirePermission()) {
+            // Sem permissão agora: a próxima leitura do valor tenta de novo
+            refreshing.remove(key);
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                    log.debug("🔄 [{}] '{}' atualizado em segundo plano", name, key);
+                } catch (RuntimeException e) {
+                    log.debug("⚠️ [{}] Falha ao atualizar '{}' em segundo plano: {}", name, key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.backend.Util;
+
+import com.backend.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Deduplica execuções concorrentes para a mesma chave: enquanto uma execução está em andamento,
+ * as demais chamadas com a mesma chave aguardam e recebem o mesmo resultado (ou a mesma exceção).
+ * Quem aguarda respeita o próprio prazo (Deadline), e não o de quem executa: se a execução falhar
+ * por fim de prazo ou cancelamento de quem a iniciou, quem ainda tem tempo tenta de novo (e pode
+ * passar a executar) em vez de receber o erro.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        while (true) {
+            CompletableFuture<V> call = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+            if (existing == null) {
+                return lead(key, call, loader);
+            }
+            try {
+                return await(existing);
+            } catch (DeadlineExceededException e) {
+                // Com o nosso prazo esgotado o erro é nosso; senão foi o de quem executava
+                Deadline.checkCurrent();
+                inFlight.remove(key, existing);
+            }
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            inFlight.remove(key, call);
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Espera no máximo o que resta do prazo de quem aguarda
+    private V await(CompletableFuture<V> call) {
+        Deadline deadline = Deadline.current();
+        try {
+            if (deadline == null) {
+                return call.get();
+            }
+            Duration remaining = deadline.remaining();
+            if (remaining.isZero()) {
+                throw deadline.exceeded();
+            }
+            return call.get(remaining.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw deadline.exceeded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Deadline.checkCurrent();
+            throw new IllegalStateException("Espera interrompida", e);
+        } catch (ExecutionException e) {
+            Deadline.checkCurrent();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.backend.Util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Índice de correção ortográfica no estilo SymSpell.
+ * Na construção, cada palavra gera as variações obtidas apagando até {@code maxDistance} letras
+ * do seu prefixo; as variações são guardadas como (hash &lt;&lt; 32 | id da palavra) num único
+ * long[] ordenado. Na consulta, as variações da palavra digitada levam direto a um conjunto
+ * pequeno de candidatas, e só elas passam pelo cálculo da distância de edição.
+ * A pontuação (popularidade) das palavras é lida na consulta, então mudanças nela não exigem
+ * reconstruir o índice; palavras novas entram com {@link #withWords(String[])}.
+ */
+public final class SymSpellIndex {
+
+    private final String[] words;
+    private final long[] deletes;
+    private final int maxDistance;
+    private final int prefixLength;
+
+    private SymSpellIndex(String[] words, long[] deletes, int maxDistance, int prefixLength) {
+        this.words = words;
+        this.deletes = deletes;
+        this.maxDistance = maxDistance;
+        this.prefixLength = prefixLength;
+    }
+
+    public static SymSpellIndex build(String[] words, int maxDistance, int prefixLength) {
+        long[] deletes = deletesOf(words, 0, maxDistance, prefixLength);
+        return new SymSpellIndex(words.clone(), deletes, maxDistance, prefixLength);
+    }
+
+    /**
+     * Novo índice com as palavras acrescentadas: só elas geram variações, que são intercaladas
+     * com as já ordenadas deste índice (que continua valendo para quem ainda o usa).
+     */
+    public SymSpellIndex withWords(String[] newWords) {
+        if (newWords.length == 0) {
+            return this;
+        }
+        long[] added = deletesOf(newWords, words.length, maxDistance, prefixLength);
+        long[] merged = new long[deletes.length + added.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < deletes.length && j < added.length) {
+            merged[k++] = deletes[i] <= added[j] ? deletes[i++] : added[j++];
+        }
+        System.arraycopy(deletes, i, merged, k, deletes.length - i);
+        System.arraycopy(added, j, merged, k + deletes.length - i, added.length - j);
+
+        String[] allWords = Arrays.copyOf(words, words.length + newWords.length);
+        System.arraycopy(newWords, 0, allWords, words.length, newWords.length);
+        return new SymSpellIndex(allWords, merged, maxDistance, prefixLength);
+    }
+
+    // Variações das palavras, já ordenadas, com ids a partir de firstId
+    private static long[] deletesOf(String[] words, int firstId, int maxDistance, int prefixLength) {
+        long[] entries = new long[Math.max(16, words.length * 8)];
+        int size = 0;
+        Set<String> variants = new HashSet<>();
+        for (int i = 0; i < words.length; i++) {
+            variants.clear();
+            String word = words[i];
+            collectDeletes(word.substring(0, Math.min(word.length(), prefixLength)), maxDistance, variants);
+            for (String variant : variants) {
+                if (size == entries.length) {
+                    entries = Arrays.copyOf(entries, size * 2);
+                }
+                entries[size++] = pack(variant.hashCode(), firstId + i);
+            }
+        }
+        long[] deletes = Arrays.copyOf(entries, size);
+        Arrays.sort(deletes);
+        return deletes;
+    }
+
+    /**
+     * Palavras do índice a até {@code maxDistance} edições da palavra informada (excluindo ela mesma),
+     * ordenadas pela distância e, em seguida, pela pontuação atual de cada uma.
+     */
+    public List<String> lookup(String input, int limit, ToLongFunction<String> score) {
+        Set<String> variants = new HashSet<>();
+        collectDeletes(input.substring(0, Math.min(input.length(), prefixLength)), maxDistance, variants);
+
+        Set<Integer> seen = new HashSet<>();
+        List<long[]> matches = new ArrayList<>();
+        for (String variant : variants) {
+            int hash = variant.hashCode();
+            for (int i = lowerBound(pack(hash, 0)); i < deletes.length && (int) (deletes[i] >> 32) == hash; i++) {
+                int id = (int) deletes[i];
+                if (!seen.add(id)) {
+                    continue;
+                }
+                int distance = distance(input, words[id], maxDistance);
+                if (distance > 0 && distance <= maxDistance) {
+                    matches.add(new long[]{id, distance, score.applyAsLong(words[id])});
+                }
+            }
+        }
+        matches.sort(Comparator.<long[]>comparingLong(match -> match[1])
+                .thenComparing(match -> match[2], Comparator.reverseOrder())
+                .thenComparing(match -> words[(int) match[0]]));
+
+        List<String> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(words[(int) matches.get(i)[0]]);
+        }
+        return result;
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = deletes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (deletes[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long pack(int hash, int id) {
+        return ((long) hash << 32) | (id & 0xffffffffL);
+    }
+
+    // Variações por remoção de letras, geradas em largura (cada nível remove mais uma letra)
+    private static void collectDeletes(String word, int maxDistance, Set<String> variants) {
+        variants.add(word);
+        List<String> frontier = List.of(word);
+        for (int level = 0; level < maxDistance && !frontier.isEmpty(); level++) {
+            List<String> next = new ArrayList<>();
+            for (String current : frontier) {
+                for (int i = 0; i < current.length(); i++) {
+                    String variant = current.substring(0, i) + current.substring(i + 1);
+                    if (variants.add(variant)) {
+                        next.add(variant);
+                    }
+                }
+            }
+            frontier = next;
+        }
+    }
+
+    // Distância de Damerau-Levenshtein (alinhamento ótimo de strings), com saída antecipada acima do limite
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+}
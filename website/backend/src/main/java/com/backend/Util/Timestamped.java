@@ -0,0 +1,11 @@
+package com.backend.Util;
+
+/**
+ * Valor em cache junto com o instante (epoch em milissegundos) em que foi obtido da origem.
+ */
+public record Timestamped<V>(V value, long loadedAt) {
+
+    public long ageMillis(long now) {
+        return now - loadedAt;
+    }
+}
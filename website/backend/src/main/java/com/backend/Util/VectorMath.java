@@ -0,0 +1,73 @@
+package com.backend.Util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Produto escalar de vetores float, usado na similaridade de cosseno dos vetores de palavras
+ * (normalizados, então o produto escalar já é o cosseno).
+ * Com o módulo jdk.incubator.vector carregado (--add-modules jdk.incubator.vector na JVM) o cálculo usa a
+ * Vector API (SIMD); sem ele, um laço escalar com quatro acumuladores independentes. A implementação
+ * SIMD (SimdVectorMath) fica em src/main/java-vector e é carregada por reflexão, então nem a compilação
+ * deste código nem a JVM precisam do módulo incubador.
+ */
+public final class VectorMath {
+
+    // null quando o módulo não está carregado (ou a SIMD foi desativada com -Dsemantic.vectors.disable-simd=true)
+    private static final MethodHandle SIMD_DOT = simdDot();
+    private static final boolean SIMD = SIMD_DOT != null;
+
+    private VectorMath() {
+    }
+
+    public static boolean isSimdEnabled() {
+        return SIMD;
+    }
+
+    /**
+     * Produto escalar de a[aOffset..aOffset+length) com b[bOffset..bOffset+length).
+     */
+    public static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        if (SIMD) {
+            try {
+                return (float) SIMD_DOT.invokeExact(a, aOffset, b, bOffset, length);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Erro no produto escalar com a Vector API", e);
+            }
+        }
+        return scalarDot(a, aOffset, b, bOffset, length);
+    }
+
+    private static MethodHandle simdDot() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()
+                || Boolean.getBoolean("semantic.vectors.disable-simd")) {
+            return null;
+        }
+        try {
+            Class<?> simd = Class.forName("com.backend.Util.SimdVectorMath");
+            return MethodHandles.lookup().findStatic(simd, "dot",
+                    MethodType.methodType(float.class, float[].class, int.class, float[].class, int.class, int.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Classe fora do classpath (ex.: compilada só com src/main/java): fica o laço escalar
+            return null;
+        }
+    }
+
+    static float scalarDot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+            s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+}
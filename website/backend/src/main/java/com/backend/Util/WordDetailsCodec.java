@@ -0,0 +1,111 @@
+package com.backend.Util;
+
+import com.backend.dto.DefinitionDTO;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.WordDetailsDTO;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formato binário compacto para WordDetailsDTO, usado nos arquivos locais do backend.
+ * Strings são gravadas como tamanho (int, -1 para null) seguido dos bytes UTF-8;
+ * listas como tamanho (int, -1 para null) seguido dos elementos.
+ */
+public final class WordDetailsCodec {
+
+    private WordDetailsCodec() {
+    }
+
+    public static void write(DataOutput out, WordDetailsDTO details) throws IOException {
+        writeString(out, details.word());
+        writeString(out, details.phonetic());
+        writeString(out, details.translation());
+        List<MeaningDTO> meanings = details.meanings();
+        out.writeInt(meanings == null ? -1 : meanings.size());
+        if (meanings == null) {
+            return;
+        }
+        for (MeaningDTO meaning : meanings) {
+            writeString(out, meaning.partOfSpeech());
+            List<DefinitionDTO> definitions = meaning.definitions();
+            out.writeInt(definitions == null ? -1 : definitions.size());
+            if (definitions != null) {
+                for (DefinitionDTO definition : definitions) {
+                    writeString(out, definition.definition());
+                    writeString(out, definition.example());
+                }
+            }
+            writeStrings(out, meaning.synonyms());
+        }
+    }
+
+    public static WordDetailsDTO read(DataInput in) throws IOException {
+        String word = readString(in);
+        String phonetic = readString(in);
+        String translation = readString(in);
+        int meaningCount = in.readInt();
+        List<MeaningDTO> meanings = null;
+        if (meaningCount >= 0) {
+            meanings = new ArrayList<>(meaningCount);
+            for (int i = 0; i < meaningCount; i++) {
+                String partOfSpeech = readString(in);
+                int definitionCount = in.readInt();
+                List<DefinitionDTO> definitions = null;
+                if (definitionCount >= 0) {
+                    definitions = new ArrayList<>(definitionCount);
+                    for (int j = 0; j < definitionCount; j++) {
+                        definitions.add(new DefinitionDTO(readString(in), readString(in)));
+                    }
+                }
+                meanings.add(new MeaningDTO(partOfSpeech, definitions, readStrings(in)));
+            }
+        }
+        return new WordDetailsDTO(word, phonetic, meanings, translation);
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutput out, List<String> values) throws IOException {
+        out.writeInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
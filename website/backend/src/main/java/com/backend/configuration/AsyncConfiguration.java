@@ -0,0 +1,53 @@
+package com.backend.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfiguration {
+
+    @Value("${semantic.refresh.threads:2}")
+    private int refreshThreads;
+
+    @Value("${semantic.refresh.queue-size:500}")
+    private int refreshQueueSize;
+
+    // "virtual" (padrão) ou "platform", para comparar os dois modos
+    @Value("${semantic.executor.mode:virtual}")
+    private String executorMode;
+
+    // Executor das chamadas externas do SemanticService (dicionário, tradução, SPARQL).
+    // Cada tarefa roda em uma virtual thread, então esperar pela rede não ocupa threads do Tomcat.
+    // O SecurityContext de quem submete a tarefa é repassado a ela e limpo ao final, já que
+    // o SecurityContextHolder guarda o contexto em ThreadLocal. O prazo da requisição (Deadline)
+    // segue a tarefa do mesmo jeito, e o cancelamento do prazo interrompe a tarefa.
+    @Bean
+    @Primary
+    public ExecutorService semanticExecutor() {
+        ExecutorService executor = "platform".equalsIgnoreCase(executorMode)
+                ? Executors.newCachedThreadPool(Thread.ofPlatform().name("semantic-", 0).daemon(true).factory())
+                : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("semantic-", 0).factory());
+        return new DelegatingSecurityContextExecutorService(new DeadlinePropagatingExecutorService(executor));
+    }
+
+    // Pool pequeno e com fila limitada para as atualizações em segundo plano dos caches (RefreshingCache).
+    // Com a fila cheia, a atualização é descartada e tentada de novo na próxima leitura do valor.
+    @Bean
+    public ThreadPoolExecutor cacheRefreshExecutor() {
+        return new ThreadPoolExecutor(refreshThreads, refreshThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshQueueSize),
+                Thread.ofPlatform().name("cache-refresh-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
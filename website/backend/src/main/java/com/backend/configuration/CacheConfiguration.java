@@ -0,0 +1,144 @@
+package com.backend.configuration;
+
+import com.backend.Util.RefreshingCache;
+import com.backend.Util.Timestamped;
+import com.backend.dto.WordDetailsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class CacheConfiguration {
+
+    @Value("${semantic.cache.word-details.maximum-size:10000}")
+    private long wordDetailsMaximumSize;
+
+    @Value("${semantic.cache.word-details.soft-ttl:1d}")
+    private Duration wordDetailsSoftTtl;
+
+    @Value("${semantic.cache.word-details.hard-ttl:7d}")
+    private Duration wordDetailsHardTtl;
+
+    @Value("${semantic.cache.word-details.grace:3d}")
+    private Duration wordDetailsGrace;
+
+    @Value("${semantic.cache.missing-words.maximum-size:50000}")
+    private long missingWordsMaximumSize;
+
+    @Value("${semantic.cache.missing-words.ttl:30m}")
+    private Duration missingWordsTtl;
+
+    @Value("${semantic.cache.translations.maximum-size:50000}")
+    private long translationsMaximumSize;
+
+    @Value("${semantic.cache.wikidata-definitions.maximum-size:20000}")
+    private long wikidataDefinitionsMaximumSize;
+
+    @Value("${semantic.cache.wikidata-definitions.soft-ttl:1d}")
+    private Duration wikidataDefinitionsSoftTtl;
+
+    @Value("${semantic.cache.wikidata-definitions.hard-ttl:7d}")
+    private Duration wikidataDefinitionsHardTtl;
+
+    @Value("${semantic.cache.wikidata-definitions.grace:7d}")
+    private Duration wikidataDefinitionsGrace;
+
+    @Value("${semantic.cache.last-known-good.maximum-size:20000}")
+    private long lastKnownGoodMaximumSize;
+
+    @Value("${semantic.cache.last-known-good.ttl:7d}")
+    private Duration lastKnownGoodTtl;
+
+    @Value("${semantic.cache.etags.maximum-size:20000}")
+    private long etagsMaximumSize;
+
+    // Cache em memória dos detalhes de palavras, chaveado pela palavra normalizada, com atualização
+    // em segundo plano após o TTL suave. As estatísticas (hit/miss/eviction) ficam disponíveis em /actuator/prometheus.
+    @Bean
+    public RefreshingCache<WordDetailsDTO> wordDetailsCache(MeterRegistry meterRegistry,
+                                                            ThreadPoolExecutor cacheRefreshExecutor,
+                                                            RateLimiterRegistry rateLimiterRegistry) {
+        Cache<String, Timestamped<WordDetailsDTO>> cache = Caffeine.newBuilder()
+                .maximumSize(wordDetailsMaximumSize)
+                .expireAfter(RefreshingCache.<WordDetailsDTO>expiry(wordDetailsHardTtl.plus(wordDetailsGrace)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "semantic.word-details");
+        return new RefreshingCache<>("word-details", cache, wordDetailsSoftTtl, wordDetailsHardTtl, wordDetailsGrace,
+                cacheRefreshExecutor, rateLimiterRegistry.rateLimiter("cache-refresh"));
+    }
+
+    // Palavras confirmadas como inexistentes (404) na API do dicionário, com TTL menor.
+    @Bean
+    public Cache<String, Boolean> missingWordsCache(MeterRegistry meterRegistry) {
+        Cache<String, Boolean> cache = Caffeine.newBuilder()
+                .maximumSize(missingWordsMaximumSize)
+                .expireAfterWrite(missingWordsTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "semantic.missing-words");
+        return cache;
+    }
+
+    // Frente em memória da memória de traduções (TranslationMemory), chaveada por "par de idiomas:texto".
+    // Sem TTL: uma tradução persistida não muda, só sai do cache por tamanho.
+    @Bean
+    public Cache<String, String> translationCache(MeterRegistry meterRegistry) {
+        Cache<String, String> cache = Caffeine.newBuilder()
+                .maximumSize(translationsMaximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "semantic.translations");
+        return cache;
+    }
+
+    // Definições da Wikidata por palavra normalizada (inclui a resposta "nenhuma definição encontrada").
+    @Bean
+    public RefreshingCache<String> wikidataDefinitionCache(MeterRegistry meterRegistry,
+                                                           ThreadPoolExecutor cacheRefreshExecutor,
+                                                           RateLimiterRegistry rateLimiterRegistry) {
+        Cache<String, Timestamped<String>> cache = Caffeine.newBuilder()
+                .maximumSize(wikidataDefinitionsMaximumSize)
+                .expireAfter(RefreshingCache.<String>expiry(wikidataDefinitionsHardTtl.plus(wikidataDefinitionsGrace)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "semantic.wikidata-definitions");
+        return new RefreshingCache<>("wikidata-definitions", cache, wikidataDefinitionsSoftTtl, wikidataDefinitionsHardTtl,
+                wikidataDefinitionsGrace, cacheRefreshExecutor, rateLimiterRegistry.rateLimiter("cache-refresh"));
+    }
+
+    // Última resposta boa de cada serviço externo, chaveada por "serviço:chave".
+    // Usada pelo UpstreamGuard quando o serviço está indisponível, por isso o TTL é bem mais longo.
+    @Bean
+    public Cache<String, Object> lastKnownGoodCache(MeterRegistry meterRegistry) {
+        Cache<String, Object> cache = Caffeine.newBuilder()
+                .maximumSize(lastKnownGoodMaximumSize)
+                .expireAfterWrite(lastKnownGoodTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "semantic.last-known-good");
+        return cache;
+    }
+
+    // ETag de cada representação já calculada, chaveada pela identidade do objeto (weakKeys compara com ==).
+    // Os objetos vêm dos caches acima: enquanto o mesmo objeto é servido, o hash não é recalculado,
+    // e quando ele sai do cache a entrada pode ser coletada junto.
+    @Bean
+    public Cache<Object, String> representationETagCache(MeterRegistry meterRegistry) {
+        Cache<Object, String> cache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(etagsMaximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "semantic.etags");
+        return cache;
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.configuration;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+// Prazo por requisição nos endpoints que dependem de APIs externas (ver DeadlineInterceptor).
+// O orçamento de cada endpoint vem de @RequestDeadline, com semantic.deadline.* no application.properties.
+@Configuration
+public class DeadlineConfiguration implements WebMvcConfigurer {
+
+    private final DeadlineInterceptor deadlineInterceptor;
+
+    public DeadlineConfiguration(Environment environment,
+                                 @Value("${semantic.deadline.default:15s}") Duration defaultBudget) {
+        this.deadlineInterceptor = new DeadlineInterceptor(environment, defaultBudget);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(deadlineInterceptor)
+                .addPathPatterns("/api/semantic/**", "/api/dictionary/**");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlineInterceptor.shutdown();
+    }
+}
@@ -0,0 +1,135 @@
+package com.backend.configuration;
+
+import com.backend.Util.Deadline;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cria o Deadline de cada requisição, com o orçamento do endpoint (@RequestDeadline ou o padrão),
+ * e o associa à thread do servlet; dali ele segue para as tarefas do semanticExecutor e para as
+ * chamadas externas. O prazo é cancelado quando acaba ou quando a requisição assíncrona termina com
+ * erro (cliente desconectado) ou timeout, o que interrompe o trabalho ainda em andamento.
+ */
+@Slf4j
+class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ATTRIBUTE = DeadlineInterceptor.class.getName() + ".deadline";
+
+    // Folga para o 504 do próprio endpoint sair antes do timeout assíncrono do container
+    private static final Duration ASYNC_TIMEOUT_GRACE = Duration.ofSeconds(1);
+
+    private record Tracked(Deadline deadline, ScheduledFuture<?> expiry, Deadline.Scope scope) {
+    }
+
+    private final Environment environment;
+    private final Duration defaultBudget;
+    private final Map<Method, Duration> budgets = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer;
+
+    DeadlineInterceptor(Environment environment, Duration defaultBudget) {
+        this.environment = environment;
+        this.defaultBudget = defaultBudget;
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("request-deadline").daemon(true).factory());
+        executor.setRemoveOnCancelPolicy(true);
+        this.timer = executor;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // No dispatch ASYNC (resultado pronto) o prazo já existe e não há mais trabalho a limitar
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        Duration budget = budgets.computeIfAbsent(method.getMethod(), this::budgetOf);
+        Deadline deadline = Deadline.after(budget);
+        ScheduledFuture<?> expiry = timer.schedule(deadline::cancel, budget.toNanos(), TimeUnit.NANOSECONDS);
+        request.setAttribute(ATTRIBUTE, new Tracked(deadline, expiry, Deadline.attach(deadline)));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Tracked tracked = (Tracked) request.getAttribute(ATTRIBUTE);
+        if (tracked == null) {
+            return;
+        }
+        // A thread do servlet volta para o Tomcat sem o prazo; as tarefas já submetidas ficam com ele
+        tracked.scope().close();
+        if (!request.isAsyncStarted()) {
+            return;
+        }
+        AsyncContext asyncContext = request.getAsyncContext();
+        asyncContext.setTimeout(tracked.deadline().remaining().plus(ASYNC_TIMEOUT_GRACE).toMillis());
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                tracked.expiry().cancel(false);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                cancel(tracked, "timeout assíncrono");
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                cancel(tracked, "erro ou cliente desconectado");
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return;
+        }
+        Tracked tracked = (Tracked) request.getAttribute(ATTRIBUTE);
+        if (tracked != null) {
+            tracked.scope().close();
+            tracked.expiry().cancel(false);
+        }
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private static void cancel(Tracked tracked, String reason) {
+        if (!tracked.deadline().isExpired()) {
+            log.debug("⏹️ Prazo da requisição cancelado ({})", reason);
+        }
+        tracked.expiry().cancel(false);
+        tracked.deadline().cancel();
+    }
+
+    private Duration budgetOf(Method method) {
+        RequestDeadline annotation = method.getAnnotation(RequestDeadline.class);
+        if (annotation == null) {
+            return defaultBudget;
+        }
+        return DurationStyle.detectAndParse(environment.resolveRequiredPlaceholders(annotation.value()));
+    }
+}
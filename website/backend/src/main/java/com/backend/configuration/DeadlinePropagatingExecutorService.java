@@ -0,0 +1,81 @@
+package com.backend.configuration;
+
+import com.backend.Util.Deadline;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExecutorService que repassa à tarefa o Deadline de quem a submeteu. Se o prazo for cancelado
+ * enquanto a tarefa roda, a thread dela é interrompida: chamadas bloqueantes (HttpClient, get() de
+ * futures, semáforos) terminam na hora em vez de esperar o próprio timeout. Tarefas submetidas depois
+ * do cancelamento começam interrompidas. A interrupção nunca vaza para a próxima tarefa da mesma thread.
+ */
+class DeadlinePropagatingExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    DeadlinePropagatingExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            delegate.execute(command);
+            return;
+        }
+        delegate.execute(() -> runWithin(deadline, command));
+    }
+
+    // A tarefa sempre roda (um future do supplyAsync precisa ser completado), mas com o prazo já
+    // cancelado a thread começa interrompida e a primeira chamada externa falha na hora
+    private static void runWithin(Deadline deadline, Runnable command) {
+        Thread worker = Thread.currentThread();
+        Object lock = new Object();
+        boolean[] running = {true};
+        try (Deadline.Scope attached = Deadline.attach(deadline);
+             Deadline.Scope interrupt = deadline.onCancel(() -> {
+                 synchronized (lock) {
+                     if (running[0]) {
+                         worker.interrupt();
+                     }
+                 }
+             })) {
+            command.run();
+        } finally {
+            synchronized (lock) {
+                running[0] = false;
+            }
+            Thread.interrupted();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
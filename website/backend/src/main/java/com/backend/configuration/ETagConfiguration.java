@@ -0,0 +1,21 @@
+package com.backend.configuration;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class ETagConfiguration {
+
+    // ETag forte (MD5 do corpo) e 304 para If-None-Match nos GETs de palavras, cursos e RDF.
+    // Respostas que já trazem ETag (calculado pelo RepresentationETags) são respeitadas pelo filtro,
+    // e as que já saíram como 304 não são bufferizadas.
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/dictionary/*", "/api/semantic/*", "/api/courses", "/api/courses/*", "/data/*");
+        registration.setName("shallowEtagHeaderFilter");
+        return registration;
+    }
+}
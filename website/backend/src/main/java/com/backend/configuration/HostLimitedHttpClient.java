@@ -0,0 +1,213 @@
+package com.backend.configuration;
+
+import com.backend.Util.Deadline;
+import com.backend.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpClient do JDK com limite de requisições simultâneas por host (authority da URI).
+ * O pool de conexões continua sendo o do cliente delegado; aqui só se controla quantas
+ * requisições cada host recebe ao mesmo tempo, e a ocupação de cada limite vira métrica.
+ * A permissão é liberada quando a resposta (cabeçalhos) chega ou a requisição falha.
+ * Dentro de uma requisição com prazo (Deadline), a espera pelo limite e o timeout da chamada ficam
+ * limitados ao tempo que resta, e o cancelamento do prazo cancela a chamada em andamento.
+ */
+class HostLimitedHttpClient extends HttpClient {
+
+    private final HttpClient delegate;
+    private final int maxRequestsPerHost;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Semaphore> limiters = new ConcurrentHashMap<>();
+
+    HostLimitedHttpClient(HttpClient delegate, int maxRequestsPerHost, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        Semaphore limiter = limiterFor(request);
+        acquire(limiter);
+        try {
+            return delegate.send(withinDeadline(request), responseBodyHandler);
+        } finally {
+            limiter.release();
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> responseBodyHandler,
+                                                            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        Semaphore limiter = limiterFor(request);
+        try {
+            acquire(limiter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } catch (DeadlineExceededException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<HttpResponse<T>> future;
+        try {
+            future = delegate.sendAsync(withinDeadline(request), responseBodyHandler, pushPromiseHandler);
+        } catch (RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+        // O future original é devolvido para que um cancel() chegue até o cliente do JDK
+        Deadline deadline = Deadline.current();
+        Deadline.Scope cancellation = deadline == null ? null : deadline.onCancel(() -> future.cancel(true));
+        future.whenComplete((response, error) -> {
+            limiter.release();
+            if (cancellation != null) {
+                cancellation.close();
+            }
+        });
+        return future;
+    }
+
+    private static void acquire(Semaphore limiter) throws InterruptedException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            limiter.acquire();
+        } else if (!limiter.tryAcquire(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS)) {
+            throw deadline.exceeded();
+        }
+    }
+
+    // Timeout da chamada limitado ao tempo que resta do prazo (sem timeout próprio, vale o que resta)
+    private static HttpRequest withinDeadline(HttpRequest request) {
+        if (Deadline.current() == null) {
+            return request;
+        }
+        Duration requested = request.timeout().orElse(ChronoUnit.FOREVER.getDuration());
+        Duration limited = Deadline.limit(requested);
+        if (limited.equals(requested)) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true).timeout(limited).build();
+    }
+
+    private Semaphore limiterFor(HttpRequest request) {
+        String host = request.uri().getAuthority();
+        return limiters.computeIfAbsent(host == null ? "" : host, this::createLimiter);
+    }
+
+    private Semaphore createLimiter(String host) {
+        Semaphore limiter = new Semaphore(maxRequestsPerHost, true);
+        Gauge.builder("semantic.http.client.active", limiter, s -> maxRequestsPerHost - s.availablePermits())
+                .description("Requisições em andamento para o host")
+                .tag("host", host)
+                .register(meterRegistry);
+        Gauge.builder("semantic.http.client.pending", limiter, Semaphore::getQueueLength)
+                .description("Requisições aguardando o limite do host")
+                .tag("host", host)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+
+    @Override
+    public WebSocket.Builder newWebSocketBuilder() {
+        return delegate.newWebSocketBuilder();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(Duration duration) throws InterruptedException {
+        return delegate.awaitTermination(duration);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public void shutdownNow() {
+        delegate.shutdownNow();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
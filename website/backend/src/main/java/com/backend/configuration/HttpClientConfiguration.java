@@ -0,0 +1,46 @@
+package com.backend.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+@Slf4j
+public class HttpClientConfiguration {
+
+    @Value("${semantic.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${semantic.http.max-requests-per-host:16}")
+    private int maxRequestsPerHost;
+
+    // Cliente HTTP único para todas as chamadas externas (RestTemplate e consultas SPARQL do Jena):
+    // conexões keep-alive reaproveitadas, HTTP/2 quando o servidor aceita e limite por host.
+    // O tempo de keep-alive e o tamanho do pool são do JDK e valem para a JVM inteira: definidos a partir
+    // de semantic.http.keep-alive e semantic.http.pool-size (HttpClientPoolEnvironmentPostProcessor).
+    @Bean
+    public HttpClient httpClient(MeterRegistry meterRegistry) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-client-", 0).factory()))
+                .build();
+        log.info("🌐 Cliente HTTP compartilhado criado (máx. {} requisições por host, keep-alive: {}, pool de conexões: {})",
+                maxRequestsPerHost,
+                jdkProperty(HttpClientPoolEnvironmentPostProcessor.KEEP_ALIVE_PROPERTY, "s"),
+                jdkProperty(HttpClientPoolEnvironmentPostProcessor.POOL_SIZE_PROPERTY, ""));
+        return new HostLimitedHttpClient(client, maxRequestsPerHost, meterRegistry);
+    }
+
+    private static String jdkProperty(String name, String unit) {
+        String value = System.getProperty(name);
+        return value == null ? "padrão da JDK" : value + unit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.backend.configuration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Keep-alive e tamanho do pool de conexões do HttpClient do JDK a partir de semantic.http.keep-alive
+ * e semantic.http.pool-size. São propriedades da JVM, lidas uma única vez quando o primeiro HttpClient
+ * é criado, então são definidas aqui, antes de qualquer bean: valem igual no spring-boot:run, no jar
+ * e nos testes. Um -D na linha de comando continua tendo precedência.
+ */
+public class HttpClientPoolEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+    static final String POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String keepAlive = environment.getProperty("semantic.http.keep-alive");
+        if (keepAlive != null && System.getProperty(KEEP_ALIVE_PROPERTY) == null) {
+            System.setProperty(KEEP_ALIVE_PROPERTY, Long.toString(DurationStyle.detectAndParse(keepAlive).toSeconds()));
+        }
+        String poolSize = environment.getProperty("semantic.http.pool-size");
+        if (poolSize != null && System.getProperty(POOL_SIZE_PROPERTY) == null) {
+            System.setProperty(POOL_SIZE_PROPERTY, Integer.toString(Integer.parseInt(poolSize.trim())));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.configuration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Prazo total de um endpoint (ex.: "${semantic.deadline.semantic-network:15s}"), aplicado pelo
+ * DeadlineInterceptor. Endpoints sem a anotação usam semantic.deadline.default.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestDeadline {
+
+    /**
+     * Duração no formato das propriedades do Spring ("15s", "2m"), aceitando placeholders.
+     */
+    String value();
+}
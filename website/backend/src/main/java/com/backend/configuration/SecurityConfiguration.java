@@ -1,5 +1,6 @@
 package com.backend.configuration;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -37,11 +38,16 @@ public class SecurityConfiguration {
                 .cors(Customizer.withDefaults())
                 .sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        // O despacho assíncrono só entrega a resposta de uma requisição que já foi autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/register").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/dictionary/**").permitAll()  // Permitir GET público
+                        .requestMatchers(HttpMethod.POST, "/api/dictionary/batch").permitAll()  // Busca em lote também é pública
                         .requestMatchers(HttpMethod.POST, "/api/dictionary/save").authenticated()  // Salvar requer auth
+                        .requestMatchers(HttpMethod.GET, "/api/lexicon/suggest").permitAll()  // Sugestões são públicas, como a busca
                         .requestMatchers("/data/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                         // Rotas que requerem autenticação
                         .requestMatchers(HttpMethod.GET, "/api/auth/me").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/courses").authenticated()
@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -50,8 +51,10 @@ public class SecurityFilter extends OncePerRequestFilter {
                     debugUtil.debug("👤 [SECURITY_FILTER]", "Usuário encontrado: " + user.getUsername());
                     debugUtil.debug("🔐 [SECURITY_FILTER]", "Authorities: " + user.getAuthorities());
 
-                    var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    // Contexto novo em vez de alterar o atual, que pode ser compartilhado com outra thread
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+                    SecurityContextHolder.setContext(context);
 
                     debugUtil.debug("🎯 [SECURITY_FILTER]", "Usuário autenticado com sucesso!");
                 } else {
@@ -64,7 +67,12 @@ public class SecurityFilter extends OncePerRequestFilter {
             }
         }
 
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Com threads de plataforma reaproveitadas pelo Tomcat, o usuário não pode vazar para a próxima requisição
+            SecurityContextHolder.clearContext();
+        }
     }
 
 
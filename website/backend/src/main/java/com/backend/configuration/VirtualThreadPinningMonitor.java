@@ -0,0 +1,106 @@
+package com.backend.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acompanha, via JFR, os momentos em que uma thread virtual fica presa à thread de plataforma
+ * (evento jdk.VirtualThreadPinned), por exemplo ao bloquear em I/O dentro de um synchronized.
+ * Cada ocorrência incrementa a métrica semantic.virtual-threads.pinned; cada ponto de código novo
+ * é registrado no log com o início da pilha. Ativado por semantic.virtual-threads.pinning-monitor.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "semantic.virtual-threads.pinning-monitor.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+    private RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${semantic.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.pinnedCounter = Counter.builder("semantic.virtual-threads.pinned")
+                .description("Vezes em que uma thread virtual ficou presa à thread de plataforma")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        log.info("📌 Monitor de threads virtuais presas ativo (limite de {} ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String location = firstApplicationFrame(frames);
+        // Um mesmo ponto costuma se repetir a cada requisição: só a primeira ocorrência vai para o log como aviso
+        if (reportedLocations.add(location)) {
+            log.warn("📌 Thread virtual presa por {} ms em {}:\n{}",
+                    event.getDuration().toMillis(), location, format(event.getStackTrace()));
+        } else {
+            log.debug("📌 Thread virtual presa por {} ms em {}", event.getDuration().toMillis(), location);
+        }
+    }
+
+    // O topo da pilha é sempre o park da própria JDK; o ponto útil é o primeiro quadro fora dela
+    private static String firstApplicationFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "desconhecido" : describe(frames.get(0));
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "    (sem pilha)";
+        }
+        StringBuilder text = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append("    at ").append(describe(frames.get(i)));
+        }
+        return text.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -1,12 +1,33 @@
 package com.backend.controller;
 
+import com.backend.configuration.RequestDeadline;
+import com.backend.dto.BatchLookupRequestDTO;
+import com.backend.dto.BatchLookupResultDTO;
 import com.backend.dto.WordDetailsDTO;
+import com.backend.service.DictionaryBatchService;
+import com.backend.service.LexiconService;
+import com.backend.service.RepresentationETags;
 import com.backend.service.SemanticService;
+import com.backend.exception.DeadlineExceededException;
+import com.backend.exception.UpstreamUnavailableException;
 import com.backend.exception.WordNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/dictionary")
@@ -14,50 +35,127 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class DictionaryController {
 
+    private static final int SPELLING_SUGGESTIONS = 5;
+
     @Autowired
     private SemanticService semanticService;
 
+    @Autowired
+    private DictionaryBatchService dictionaryBatchService;
+
+    @Autowired
+    private LexiconService lexiconService;
+
+    @Autowired
+    private RepresentationETags representationETags;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // A busca roda no semanticExecutor: a thread do servlet é liberada enquanto as APIs externas respondem
     @GetMapping("/{word}")
-    public ResponseEntity<WordDetailsDTO> getWordDetails(@PathVariable String word) {
+    @RequestDeadline("${semantic.deadline.word-details:12s}")
+    public CompletableFuture<ResponseEntity<?>> getWordDetails(@PathVariable String word) {
         if (word == null || word.trim().isEmpty()) {
             log.warn("Tentativa de busca com palavra vazia ou nula");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+
+        log.info("🔍 [DICTIONARY] Buscando palavra: {}", word);
+        return semanticService.getWordDetailsAsync(word)
+                .<ResponseEntity<?>>thenApply(wordDetails -> {
+                    // Log detalhado dos dados retornados
+                    log.info("✅ [DICTIONARY] Palavra encontrada: {}", word);
+                    log.info("📊 [DICTIONARY] Dados retornados: {}", wordDetails);
+                    log.info("🔍 [DICTIONARY] Detalhes: word={}, phonetic={}, meanings={}, translation={}",
+                        wordDetails.word(),
+                        wordDetails.phonetic(),
+                        wordDetails.meanings() != null ? wordDetails.meanings().size() : "null",
+                        wordDetails.translation());
+
+                    // Verificar se os dados estão completos antes de retornar
+                    if (wordDetails.word() == null || wordDetails.meanings() == null || wordDetails.meanings().isEmpty()) {
+                        log.warn("⚠️ [DICTIONARY] Dados incompletos para palavra: {}", word);
+                    }
+
+                    // ETag do objeto em cache: com If-None-Match igual, o 304 sai sem serializar o corpo
+                    ResponseEntity<WordDetailsDTO> response = ResponseEntity.ok()
+                        .header("Content-Type", "application/json")
+                        .eTag(representationETags.of(wordDetails))
+                        .body(wordDetails);
+
+                    log.info("📤 [DICTIONARY] Enviando resposta com status: {}", response.getStatusCode());
+                    return response;
+                })
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof WordNotFoundException notFound) {
+                        log.warn("❌ [DICTIONARY] Palavra não encontrada: {}", word);
+                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(notFoundBody(word, notFound));
+                    }
+                    if (cause instanceof DeadlineExceededException) {
+                        log.warn("⏱️ [DICTIONARY] Prazo esgotado ao buscar palavra: {}", word);
+                        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+                    }
+                    if (cause instanceof UpstreamUnavailableException) {
+                        log.warn("🔌 [DICTIONARY] Dicionário indisponível ao buscar palavra: {}", word);
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                    }
+                    log.error("❌ [DICTIONARY] Erro interno ao buscar palavra '{}': {}", word, cause.getMessage());
+                    log.error("❌ [DICTIONARY] Stack trace:", cause);
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    /**
+     * Busca várias palavras de uma vez. Cada resultado é enviado como uma linha NDJSON
+     * assim que fica pronto, na ordem em que as buscas terminam.
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @RequestDeadline("${semantic.batch.timeout:2m}")
+    public ResponseEntity<ResponseBodyEmitter> getWordDetailsBatch(@RequestBody BatchLookupRequestDTO request) {
+        List<String> words = dictionaryBatchService.normalize(request.words());
+        if (words.isEmpty() || words.size() > dictionaryBatchService.getMaxWords()) {
+            log.warn("Lote inválido com {} palavras (máximo {})", words.size(), dictionaryBatchService.getMaxWords());
             return ResponseEntity.badRequest().build();
         }
 
+        log.info("📦 [DICTIONARY] Lote recebido com {} palavras", words.size());
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(dictionaryBatchService.getTimeout().toMillis());
+        dictionaryBatchService.lookup(words, result -> sendLine(emitter, result))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        emitter.completeWithError(error);
+                    } else {
+                        emitter.complete();
+                    }
+                });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    // Serializa o resultado numa linha só, para que envios de threads diferentes não se misturem
+    private void sendLine(ResponseBodyEmitter emitter, BatchLookupResultDTO result) {
         try {
-            log.info("🔍 [DICTIONARY] Buscando palavra: {}", word);
-
-            WordDetailsDTO wordDetails = semanticService.getWordDetails(word);
-
-            // Log detalhado dos dados retornados
-            log.info("✅ [DICTIONARY] Palavra encontrada: {}", word);
-            log.info("📊 [DICTIONARY] Dados retornados: {}", wordDetails);
-            log.info("🔍 [DICTIONARY] Detalhes: word={}, phonetic={}, meanings={}, translation={}",
-                wordDetails.word(),
-                wordDetails.phonetic(),
-                wordDetails.meanings() != null ? wordDetails.meanings().size() : "null",
-                wordDetails.translation());
-
-            // Verificar se os dados estão completos antes de retornar
-            if (wordDetails.word() == null || wordDetails.meanings() == null || wordDetails.meanings().isEmpty()) {
-                log.warn("⚠️ [DICTIONARY] Dados incompletos para palavra: {}", word);
-            }
-
-            ResponseEntity<WordDetailsDTO> response = ResponseEntity.ok()
-                .header("Content-Type", "application/json")
-                .body(wordDetails);
-
-            log.info("📤 [DICTIONARY] Enviando resposta com status: {}", response.getStatusCode());
-            return response;
-
-        } catch (WordNotFoundException e) {
-            log.warn("❌ [DICTIONARY] Palavra não encontrada: {}", word);
-            return ResponseEntity.notFound().build();
-
-        } catch (Exception e) {
-            log.error("❌ [DICTIONARY] Erro interno ao buscar palavra '{}': {}", word, e.getMessage());
-            log.error("❌ [DICTIONARY] Stack trace:", e);
-            return ResponseEntity.internalServerError().build();
+            String line = objectMapper.writeValueAsString(result) + "\n";
+            emitter.send(line, MediaType.APPLICATION_NDJSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
+
+    // Corpo do 404 com sugestões de grafia ("você quis dizer"), no mesmo formato do GlobalExceptionHandler
+    private Map<String, Object> notFoundBody(String word, WordNotFoundException e) {
+        List<String> suggestions = lexiconService.didYouMean(SemanticService.normalizeWord(word), SPELLING_SUGGESTIONS);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.NOT_FOUND.value());
+        body.put("error", "Not Found");
+        body.put("message", e.getMessage());
+        body.put("word", word);
+        body.put("suggestions", suggestions);
+        return body;
+    }
 }
\ No newline at end of file
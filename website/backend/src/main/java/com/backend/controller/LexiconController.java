@@ -0,0 +1,33 @@
+package com.backend.controller;
+
+import com.backend.service.LexiconService;
+import com.backend.service.SemanticService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Fora de /api/dictionary, onde qualquer segmento depois da barra é uma palavra buscada
+@RestController
+@RequestMapping("/api/lexicon")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {RequestMethod.GET})
+public class LexiconController {
+
+    @Autowired
+    private LexiconService lexiconService;
+
+    /**
+     * Sugestões de palavras que começam com o prefixo, das mais buscadas para as menos.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(@RequestParam String prefix,
+                                                @RequestParam(defaultValue = "10") int limit) {
+        String normalizedPrefix = SemanticService.normalizeWord(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, lexiconService.getMaxSuggestions()));
+        return ResponseEntity.ok(lexiconService.suggest(normalizedPrefix, boundedLimit));
+    }
+}
@@ -2,10 +2,12 @@ package com.backend.controller;
 
 import com.backend.dto.VocabularyMetadataDTO;
 import com.backend.exception.WordNotFoundException; // Importe a exceção
+import com.backend.exception.UpstreamUnavailableException;
 import com.backend.service.SemanticService; // Importe o novo serviço
 import com.backend.service.VocabularyRdfService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -63,6 +65,8 @@ public class RdfDataController {
 
         } catch (WordNotFoundException e) {
             return ResponseEntity.notFound().build(); // Retorna 404 se a palavra não for encontrada
+        } catch (UpstreamUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build(); // Dicionário fora do ar
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build(); // Erro genérico
         }
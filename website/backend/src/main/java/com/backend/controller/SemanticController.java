@@ -1,14 +1,29 @@
 package com.backend.controller;
 
-import com.backend.dto.WordDetailsDTO;
-import com.backend.dto.NestedWordDetailsDTO;
+import com.backend.configuration.RequestDeadline;
+import com.backend.dto.BatchLookupRequestDTO;
+import com.backend.service.DictionaryBatchService;
+import com.backend.service.RepresentationETags;
 import com.backend.service.SemanticService;
+import com.backend.service.SynonymExpansionService;
+import com.backend.exception.DeadlineExceededException;
+import com.backend.exception.UpstreamUnavailableException;
 import com.backend.exception.WordNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @RestController
 @RequestMapping("/api/semantic")
 @Slf4j
@@ -17,90 +32,165 @@ public class SemanticController {
     @Autowired
     private SemanticService semanticService;
 
+    @Autowired
+    private SynonymExpansionService synonymExpansionService;
+
+    @Autowired
+    private RepresentationETags representationETags;
+
+    @Autowired
+    private DictionaryBatchService dictionaryBatchService;
+
+    @Value("${semantic.stream.timeout:30s}")
+    private Duration streamTimeout;
+
+    // As buscas rodam no semanticExecutor: a thread do servlet é liberada enquanto as APIs externas respondem
     @GetMapping("/definition/{word}")
-    public ResponseEntity<?> getDefinition(@PathVariable String word) {
-        try {
-            WordDetailsDTO wordDetails = semanticService.getWordDetails(word);
-
-            // Extrair apenas as definições para compatibilidade
-            StringBuilder definitions = new StringBuilder();
-            if (wordDetails.meanings() != null) {
-                wordDetails.meanings().forEach(meaning -> {
-                    if (meaning.definitions() != null) {
-                        meaning.definitions().forEach(def -> {
-                            if (definitions.length() > 0) definitions.append("; ");
-                            definitions.append(def.definition());
+    @RequestDeadline("${semantic.deadline.word-details:12s}")
+    public CompletableFuture<ResponseEntity<?>> getDefinition(@PathVariable String word) {
+        return semanticService.getWordDetailsAsync(word)
+                .<ResponseEntity<?>>thenApply(wordDetails -> {
+                    // Extrair apenas as definições para compatibilidade
+                    StringBuilder definitions = new StringBuilder();
+                    if (wordDetails.meanings() != null) {
+                        wordDetails.meanings().forEach(meaning -> {
+                            if (meaning.definitions() != null) {
+                                meaning.definitions().forEach(def -> {
+                                    if (definitions.length() > 0) definitions.append("; ");
+                                    definitions.append(def.definition());
+                                });
+                            }
                         });
                     }
-                });
-            }
 
-            return ResponseEntity.ok(new DefinitionResponse(word, definitions.toString()));
-
-        } catch (WordNotFoundException e) {
-            log.warn("Definição não encontrada para palavra: {}", word);
-            return ResponseEntity.notFound().build();
-        } catch (Exception e) {
-            log.error("Erro ao buscar definição para '{}': {}", word, e.getMessage());
-            return ResponseEntity.internalServerError().build();
-        }
+                    return ResponseEntity.ok(new DefinitionResponse(word, definitions.toString()));
+                })
+                .exceptionally(error -> failure(error, "Definição não encontrada para palavra: {}", "definição", word));
     }
 
     @GetMapping("/translation/{word}")
-    public ResponseEntity<?> getTranslation(@PathVariable String word) {
-        try {
-            String translation = semanticService.getTranslation(word);
-            return ResponseEntity.ok(new TranslationResponse(word, translation));
-        } catch (WordNotFoundException e) {
-            log.warn("Tradução não encontrada para palavra: {}", word);
-            return ResponseEntity.notFound().build();
-        } catch (Exception e) {
-            log.error("Erro ao buscar tradução para '{}': {}", word, e.getMessage());
-            return ResponseEntity.internalServerError().build();
-        }
+    @RequestDeadline("${semantic.deadline.translation:5s}")
+    public CompletableFuture<ResponseEntity<?>> getTranslation(@PathVariable String word) {
+        return semanticService.getTranslationAsync(word)
+                .<ResponseEntity<?>>thenApply(translation -> ResponseEntity.ok(new TranslationResponse(word, translation)))
+                .exceptionally(error -> failure(error, "Tradução não encontrada para palavra: {}", "tradução", word));
     }
 
     @GetMapping("/word-details/{word}")
-    public ResponseEntity<WordDetailsDTO> getWordDetails(@PathVariable String word) {
-        try {
-            WordDetailsDTO wordDetails = semanticService.getWordDetails(word);
-            return ResponseEntity.ok(wordDetails);
-        } catch (WordNotFoundException e) {
-            log.warn("Detalhes não encontrados para palavra: {}", word);
-            return ResponseEntity.notFound().build();
-        } catch (Exception e) {
-            log.error("Erro ao buscar detalhes para '{}': {}", word, e.getMessage());
-            return ResponseEntity.internalServerError().build();
-        }
+    @RequestDeadline("${semantic.deadline.word-details:12s}")
+    public CompletableFuture<ResponseEntity<?>> getWordDetails(@PathVariable String word) {
+        return semanticService.getWordDetailsAsync(word)
+                .<ResponseEntity<?>>thenApply(wordDetails -> ResponseEntity.ok()
+                        .eTag(representationETags.of(wordDetails))
+                        .body(wordDetails))
+                .exceptionally(error -> failure(error, "Detalhes não encontrados para palavra: {}", "detalhes", word));
     }
 
+    // Com depth e/ou fanOut, expande a vizinhança de sinônimos em vez de seguir só o primeiro
     @GetMapping("/nested-details/{word}")
-    public ResponseEntity<NestedWordDetailsDTO> getNestedWordDetails(@PathVariable String word) {
-        try {
-            NestedWordDetailsDTO nestedDetails = semanticService.getNestedWordDetails(word);
-            return ResponseEntity.ok(nestedDetails);
-        } catch (WordNotFoundException e) {
-            log.warn("Detalhes aninhados não encontrados para palavra: {}", word);
-            return ResponseEntity.notFound().build();
-        } catch (Exception e) {
-            log.error("Erro ao buscar detalhes aninhados para '{}': {}", word, e.getMessage());
-            return ResponseEntity.internalServerError().build();
-        }
+    @RequestDeadline("${semantic.deadline.nested-details:20s}")
+    public CompletableFuture<ResponseEntity<?>> getNestedWordDetails(@PathVariable String word,
+                                                                     @RequestParam(required = false) Integer depth,
+                                                                     @RequestParam(required = false) Integer fanOut) {
+        CompletableFuture<?> details = depth != null || fanOut != null
+                ? synonymExpansionService.expandAsync(word, depth, fanOut)
+                : semanticService.getNestedWordDetailsAsync(word);
+        return details
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(error -> failure(error, "Detalhes aninhados não encontrados para palavra: {}", "detalhes aninhados", word));
     }
 
     // NOVA FUNCIONALIDADE: Rede Semântica de Palavras
     @GetMapping("/semantic-network/{word}")
-    public ResponseEntity<SemanticNetworkDTO> getSemanticNetwork(@PathVariable String word) {
+    @RequestDeadline("${semantic.deadline.semantic-network:20s}")
+    public CompletableFuture<ResponseEntity<?>> getSemanticNetwork(@PathVariable String word) {
+        return semanticService.getSemanticNetworkAsync(word)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(error -> failure(error, "Rede semântica não encontrada para palavra: {}", "rede semântica", word));
+    }
+
+    // Mesma rede em Server-Sent Events: cada seção é enviada assim que sua fonte responde, então o
+    // primeiro conteúdo não espera a fonte mais lenta (normalmente a Wikidata)
+    @GetMapping(value = "/semantic-network/{word}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RequestDeadline("${semantic.deadline.semantic-network-stream:25s}")
+    public SseEmitter streamSemanticNetwork(@PathVariable String word) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        CompletableFuture<?> network;
+        try {
+            network = semanticService.streamSemanticNetwork(word, (name, section) -> sendEvent(emitter, name, section));
+        } catch (RuntimeException e) {
+            network = CompletableFuture.failedFuture(e);
+        }
+        network.whenComplete((result, error) -> {
+            if (error != null) {
+                ResponseEntity<?> response = failure(error, "Rede semântica não encontrada para palavra: {}", "rede semântica", word);
+                sendEvent(emitter, "error", new StreamError(word, response.getStatusCode().value()));
+            }
+            emitter.complete();
+        });
+        CompletableFuture<?> pending = network;
+        emitter.onTimeout(() -> pending.cancel(true));
+        emitter.onError(error -> pending.cancel(true));
+        return emitter;
+    }
+
+    // Falha ao enviar quase sempre é o cliente que desconectou; as seções seguintes são descartadas
+    private static void sendEvent(SseEmitter emitter, String name, Object data) {
         try {
-            SemanticNetworkDTO semanticNetwork = semanticService.getSemanticNetwork(word);
-            return ResponseEntity.ok(semanticNetwork);
-        } catch (WordNotFoundException e) {
-            log.warn("Rede semântica não encontrada para palavra: {}", word);
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Evento '{}' não enviado: {}", name, e.getMessage());
+        }
+    }
+
+    // Redes de uma lista de palavras (ex.: as palavras de uma lição) com uma consulta à Wikidata por lote
+    @PostMapping("/semantic-network/batch")
+    @RequestDeadline("${semantic.deadline.semantic-network-batch:60s}")
+    public CompletableFuture<ResponseEntity<?>> getSemanticNetworks(@RequestBody BatchLookupRequestDTO request) {
+        List<String> words = dictionaryBatchService.normalize(request.words());
+        if (words.isEmpty() || words.size() > dictionaryBatchService.getMaxWords()) {
+            log.warn("Lote inválido com {} palavras (máximo {})", words.size(), dictionaryBatchService.getMaxWords());
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return semanticService.getSemanticNetworksAsync(words)
+                .<ResponseEntity<?>>thenApply(networks -> {
+                    List<String> notFound = words.stream().filter(word -> !networks.containsKey(word)).toList();
+                    return ResponseEntity.ok(new SemanticNetworkBatchDTO(List.copyOf(networks.values()), notFound));
+                })
+                .exceptionally(error -> failure(error, "Redes semânticas não encontradas para o lote: {}", "redes semânticas", words.toString()));
+    }
+
+    // Palavras mais parecidas pelos vetores de palavras; 503 enquanto os vetores não foram importados
+    @GetMapping("/similar/{word}")
+    @RequestDeadline("${semantic.deadline.similar:5s}")
+    public CompletableFuture<ResponseEntity<?>> getSimilarWords(@PathVariable String word,
+                                                                @RequestParam(defaultValue = "10") int k) {
+        if (!semanticService.isWordVectorIndexAvailable()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+        return semanticService.getSimilarWordsAsync(word, k)
+                .<ResponseEntity<?>>thenApply(similar -> ResponseEntity.ok(new SimilarWordsDTO(word, similar)))
+                .exceptionally(error -> failure(error, "Vetor não encontrado para palavra: {}", "palavras similares", word));
+    }
+
+    // 404 para palavra não encontrada, 504 para prazo esgotado, 503 para dicionário indisponível,
+    // 500 para os demais erros (que chegam embrulhados em CompletionException)
+    private static ResponseEntity<?> failure(Throwable error, String notFoundMessage, String errorLabel, String word) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof WordNotFoundException) {
+            log.warn(notFoundMessage, word);
             return ResponseEntity.notFound().build();
-        } catch (Exception e) {
-            log.error("Erro ao buscar rede semântica para '{}': {}", word, e.getMessage());
-            return ResponseEntity.internalServerError().build();
         }
+        if (cause instanceof DeadlineExceededException) {
+            log.warn("⏱️ Prazo esgotado ao buscar {} para '{}'", errorLabel, word);
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+        }
+        if (cause instanceof UpstreamUnavailableException) {
+            log.warn("🔌 Dicionário indisponível ao buscar {} para '{}'", errorLabel, word);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        log.error("Erro ao buscar {} para '{}': {}", errorLabel, word, cause.getMessage());
+        return ResponseEntity.internalServerError().build();
     }
 
     // Classes internas para respostas
@@ -120,6 +210,35 @@ public class SemanticController {
         java.util.List<LanguageConnection> connections
     ) {}
 
+    // Seções da rede semântica enviadas pelo endpoint de streaming
+    public static record NetworkDefinitionsSection(
+        String word,
+        String phonetic,
+        java.util.List<com.backend.dto.MeaningDTO> meanings,
+        java.util.List<RelatedWord> synonyms
+    ) {}
+
+    public static record NetworkRelationsSection(
+        String word,
+        String wordFamily,
+        java.util.List<RelatedWord> antonyms,
+        java.util.List<RelatedWord> relatedWords,
+        java.util.List<String> cognates,
+        WordOrigin origin,
+        java.util.List<LanguageConnection> connections
+    ) {}
+
+    public static record NetworkEtymologySection(String word, String etymology) {}
+
+    public static record StreamError(String word, int status) {}
+
+    public static record SimilarWordsDTO(String word, java.util.List<RelatedWord> similar) {}
+
+    public static record SemanticNetworkBatchDTO(
+        java.util.List<SemanticNetworkDTO> networks,
+        java.util.List<String> notFound
+    ) {}
+
     public static record RelatedWord(String word, String relation, Double similarity) {}
     public static record WordOrigin(String language, String originalForm, String meaning) {}
     public static record LanguageConnection(String language, String form, String meaning) {}
@@ -0,0 +1,30 @@
+package com.backend.data;
+
+import com.backend.service.LexemeMirrorImporter;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+// Importação do espelho local de lexemas da Wikidata, executada ao iniciar a aplicação com:
+//   --import-wikidata-lexemes=/caminho/latest-lexemes.nt.gz
+@Configuration
+public class LexemeMirrorImportRunner implements ApplicationRunner {
+
+    private final LexemeMirrorImporter importer;
+
+    public LexemeMirrorImportRunner(LexemeMirrorImporter importer) {
+        this.importer = importer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> sources = args.getOptionValues("import-wikidata-lexemes");
+        if (sources == null || sources.isEmpty()) {
+            return;
+        }
+        importer.importLexemes(Path.of(sources.get(0)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.data;
+
+import com.backend.service.LocalDictionaryImporter;
+import com.backend.service.LocalDictionaryStore;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+// Importação do dicionário local, executada ao iniciar a aplicação com:
+//   --import-dictionary=/caminho/kaikki.org-dictionary-English.jsonl(.gz)
+@Configuration
+public class LocalDictionaryImportRunner implements ApplicationRunner {
+
+    private final LocalDictionaryImporter importer;
+    private final LocalDictionaryStore store;
+
+    public LocalDictionaryImportRunner(LocalDictionaryImporter importer, LocalDictionaryStore store) {
+        this.importer = importer;
+        this.store = store;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> sources = args.getOptionValues("import-dictionary");
+        if (sources == null || sources.isEmpty()) {
+            return;
+        }
+        importer.importKaikki(Path.of(sources.get(0)), store.getIndexPath());
+        store.reload();
+    }
+}
@@ -0,0 +1,30 @@
+package com.backend.data;
+
+import com.backend.service.WordVectorImporter;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+// Importação dos vetores de palavras (GloVe, fastText .vec ou word2vec .bin), executada ao iniciar a aplicação com:
+//   --import-word-vectors=/caminho/glove.6B.100d.txt
+@Configuration
+public class WordVectorImportRunner implements ApplicationRunner {
+
+    private final WordVectorImporter importer;
+
+    public WordVectorImportRunner(WordVectorImporter importer) {
+        this.importer = importer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> sources = args.getOptionValues("import-word-vectors");
+        if (sources == null || sources.isEmpty()) {
+            return;
+        }
+        importer.importVectors(Path.of(sources.get(0)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Tradução já obtida da API externa, chaveada pelo texto normalizado e pelo par de idiomas
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "translation_memory",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"source_text", "lang_pair"}))
+public class TranslationMemoryEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_text", nullable = false, length = 500)
+    private String sourceText;
+
+    // Formato da API de tradução, ex.: "en|pt"
+    @Column(name = "lang_pair", nullable = false, length = 16)
+    private String langPair;
+
+    @Column(nullable = false, length = 2000)
+    private String translatedText;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
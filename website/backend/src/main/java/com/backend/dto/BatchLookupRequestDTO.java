@@ -0,0 +1,7 @@
+package com.backend.dto;
+
+import java.util.List;
+
+public record BatchLookupRequestDTO(
+        List<String> words
+) {}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.backend.dto;
+
+public record BatchLookupResultDTO(
+        String word,
+        WordDetailsDTO details,
+        String error
+) {}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.backend.dto;
+
+public record ExpandedSynonymDTO(
+        String word,
+        String parent,
+        int depth,
+        WordDetailsDTO details
+) {}
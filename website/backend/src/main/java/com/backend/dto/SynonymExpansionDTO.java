@@ -0,0 +1,11 @@
+package com.backend.dto;
+
+import java.util.List;
+
+public record SynonymExpansionDTO(
+        WordDetailsDTO mainWord,
+        List<ExpandedSynonymDTO> synonyms,
+        int depth,
+        int fanOut,
+        boolean complete
+) {}
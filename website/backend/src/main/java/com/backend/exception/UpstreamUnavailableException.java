@@ -0,0 +1,15 @@
+package com.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Um serviço externo sem fallback (o dicionário) está fora do ar, lento ou com o circuit breaker aberto,
+ * e não há resposta guardada para usar. Não diz nada sobre a palavra: não é um "não encontrada".
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class UpstreamUnavailableException extends RuntimeException {
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
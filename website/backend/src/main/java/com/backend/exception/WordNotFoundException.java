@@ -8,4 +8,12 @@ public class WordNotFoundException extends RuntimeException {
     public WordNotFoundException(String message) {
         super(message);
     }
+
+    /**
+     * Permite criar a exceção sem capturar o stack trace, para respostas rápidas
+     * de palavras já conhecidas como inexistentes.
+     */
+    public WordNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
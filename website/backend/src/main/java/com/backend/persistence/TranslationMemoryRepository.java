@@ -0,0 +1,10 @@
+package com.backend.persistence;
+
+import com.backend.domain.TranslationMemoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemoryEntry, Long> {
+    Optional<TranslationMemoryEntry> findBySourceTextAndLangPair(String sourceText, String langPair);
+}
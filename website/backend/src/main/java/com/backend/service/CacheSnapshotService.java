@@ -0,0 +1,193 @@
+package com.backend.service;
+
+import com.backend.Util.RefreshingCache;
+import com.backend.Util.Timestamped;
+import com.backend.Util.WordDetailsCodec;
+import com.backend.dto.WordDetailsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Salva os caches do SemanticService (detalhes de palavras, traduções e definições da Wikidata)
+ * num arquivo binário compactado, periodicamente e no desligamento, e os recarrega após a
+ * inicialização. A carga roda em segundo plano, então não atrasa a aplicação ficar pronta;
+ * entradas que já foram preenchidas por requisições nesse meio tempo não são sobrescritas.
+ */
+@Service
+@Slf4j
+public class CacheSnapshotService {
+
+    private static final int MAGIC = 0x45464353;
+    private static final int VERSION = 2;
+
+    private final RefreshingCache<WordDetailsDTO> wordDetailsCache;
+    private final Cache<String, String> translationCache;
+    private final RefreshingCache<String> wikidataDefinitionCache;
+    private final ExecutorService semanticExecutor;
+    private final Path snapshotPath;
+    private final Duration maxAge;
+    private final ReentrantLock saveLock = new ReentrantLock();
+
+    // Até a carga terminar, um snapshot gravado agora substituiria o arquivo por caches quase vazios
+    private volatile boolean restored;
+
+    public CacheSnapshotService(RefreshingCache<WordDetailsDTO> wordDetailsCache,
+                                @Qualifier("translationCache") Cache<String, String> translationCache,
+                                RefreshingCache<String> wikidataDefinitionCache,
+                                ExecutorService semanticExecutor,
+                                @Value("${semantic.snapshot.path:data/cache-snapshot.bin}") String snapshotPath,
+                                @Value("${semantic.snapshot.max-age:24h}") Duration maxAge) {
+        this.wordDetailsCache = wordDetailsCache;
+        this.translationCache = translationCache;
+        this.wikidataDefinitionCache = wikidataDefinitionCache;
+        this.semanticExecutor = semanticExecutor;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.maxAge = maxAge;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreInBackground() {
+        semanticExecutor.execute(this::restore);
+    }
+
+    @Scheduled(initialDelayString = "${semantic.snapshot.interval:10m}", fixedDelayString = "${semantic.snapshot.interval:10m}")
+    public void saveSnapshot() {
+        if (restored) {
+            save();
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveSnapshot();
+    }
+
+    private void restore() {
+        try {
+            if (!Files.isRegularFile(snapshotPath)) {
+                log.info("ℹ️ Nenhum snapshot de cache em {}, iniciando com caches vazios", snapshotPath);
+                return;
+            }
+            long start = System.nanoTime();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    log.warn("⚠️ Snapshot de cache {} em formato desconhecido, ignorando", snapshotPath);
+                    return;
+                }
+                long savedAt = in.readLong();
+                Duration age = Duration.ofMillis(System.currentTimeMillis() - savedAt);
+                if (age.compareTo(maxAge) > 0) {
+                    log.info("ℹ️ Snapshot de cache com {} h, mais antigo que o limite de {} h, ignorando",
+                            age.toHours(), maxAge.toHours());
+                    return;
+                }
+                // Cada entrada volta com a sua data de carga original, então continua valendo o TTL dela
+                int words = in.readInt();
+                for (int i = 0; i < words; i++) {
+                    String key = WordDetailsCodec.readString(in);
+                    long loadedAt = in.readLong();
+                    wordDetailsCache.restore(key, WordDetailsCodec.read(in), loadedAt);
+                }
+                int translations = in.readInt();
+                for (int i = 0; i < translations; i++) {
+                    String key = WordDetailsCodec.readString(in);
+                    translationCache.asMap().putIfAbsent(key, WordDetailsCodec.readString(in));
+                }
+                int definitions = in.readInt();
+                for (int i = 0; i < definitions; i++) {
+                    String key = WordDetailsCodec.readString(in);
+                    long loadedAt = in.readLong();
+                    wikidataDefinitionCache.restore(key, WordDetailsCodec.readString(in), loadedAt);
+                }
+                log.info("♻️ Snapshot de cache restaurado em {} ms: {} palavras, {} traduções, {} definições da Wikidata",
+                        (System.nanoTime() - start) / 1_000_000, words, translations, definitions);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ Erro ao restaurar o snapshot de cache {}: {}", snapshotPath, e.getMessage());
+        } finally {
+            restored = true;
+        }
+    }
+
+    // Lock em vez de synchronized: a gravação do arquivo bloqueia e não deve prender uma thread virtual
+    private void save() {
+        saveLock.lock();
+        try {
+            writeSnapshot();
+        } finally {
+            saveLock.unlock();
+        }
+    }
+
+    private void writeSnapshot() {
+        long start = System.nanoTime();
+        Path tempFile = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            int words;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(System.currentTimeMillis());
+                // Cópia do mapa: a contagem gravada precisa bater com as entradas que vêm em seguida
+                Map<String, Timestamped<WordDetailsDTO>> wordDetails = Map.copyOf(wordDetailsCache.asMap());
+                words = wordDetails.size();
+                out.writeInt(words);
+                for (Map.Entry<String, Timestamped<WordDetailsDTO>> entry : wordDetails.entrySet()) {
+                    WordDetailsCodec.writeString(out, entry.getKey());
+                    out.writeLong(entry.getValue().loadedAt());
+                    WordDetailsCodec.write(out, entry.getValue().value());
+                }
+                Map<String, String> translations = Map.copyOf(translationCache.asMap());
+                out.writeInt(translations.size());
+                for (Map.Entry<String, String> entry : translations.entrySet()) {
+                    WordDetailsCodec.writeString(out, entry.getKey());
+                    WordDetailsCodec.writeString(out, entry.getValue());
+                }
+                Map<String, Timestamped<String>> definitions = Map.copyOf(wikidataDefinitionCache.asMap());
+                out.writeInt(definitions.size());
+                for (Map.Entry<String, Timestamped<String>> entry : definitions.entrySet()) {
+                    WordDetailsCodec.writeString(out, entry.getKey());
+                    out.writeLong(entry.getValue().loadedAt());
+                    WordDetailsCodec.writeString(out, entry.getValue().value());
+                }
+            }
+            Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("💾 Snapshot de cache gravado em {} ms ({} palavras)", (System.nanoTime() - start) / 1_000_000, words);
+        } catch (IOException e) {
+            log.error("❌ Erro ao gravar o snapshot de cache {}: {}", snapshotPath, e.getMessage());
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+                // O arquivo temporário é sobrescrito na próxima gravação
+            }
+        }
+    }
+}
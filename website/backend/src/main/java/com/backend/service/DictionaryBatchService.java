@@ -0,0 +1,120 @@
+package com.backend.service;
+
+import com.backend.Util.Deadline;
+import com.backend.dto.BatchLookupResultDTO;
+import com.backend.dto.WordDetailsDTO;
+import com.backend.exception.DeadlineExceededException;
+import com.backend.exception.UpstreamUnavailableException;
+import com.backend.exception.WordNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class DictionaryBatchService {
+
+    private final SemanticService semanticService;
+    private final ExecutorService semanticExecutor;
+
+    @Value("${semantic.batch.max-words:300}")
+    private int maxWords;
+
+    @Value("${semantic.batch.concurrency:8}")
+    private int concurrency;
+
+    @Value("${semantic.batch.timeout:2m}")
+    private Duration timeout;
+
+    public DictionaryBatchService(SemanticService semanticService, ExecutorService semanticExecutor) {
+        this.semanticService = semanticService;
+        this.semanticExecutor = semanticExecutor;
+    }
+
+    public int getMaxWords() {
+        return maxWords;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Normaliza as palavras e remove vazias e repetidas, mantendo a ordem original.
+     */
+    public List<String> normalize(List<String> words) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (words != null) {
+            for (String word : words) {
+                if (word != null && !word.isBlank()) {
+                    normalized.add(SemanticService.normalizeWord(word));
+                }
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+
+    /**
+     * Resolve as palavras com concorrência limitada, entregando cada resultado (ou erro)
+     * ao consumidor assim que fica pronto, sem esperar o lote inteiro.
+     * Se o consumidor falhar (ex.: cliente desconectou), as palavras restantes são descartadas.
+     * Quando o prazo da requisição acaba, o future falha com DeadlineExceededException.
+     */
+    public CompletableFuture<Void> lookup(List<String> words, Consumer<BatchLookupResultDTO> onResult) {
+        log.info("📦 [BATCH] Resolvendo lote de {} palavras", words.size());
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        List<CompletableFuture<Void>> lookups = new ArrayList<>(words.size());
+        for (String word : words) {
+            lookups.add(CompletableFuture.runAsync(() -> {
+                if (aborted.get()) {
+                    return;
+                }
+                Deadline.acquire(permits);
+                try {
+                    if (aborted.get()) {
+                        return;
+                    }
+                    BatchLookupResultDTO result = resolve(word);
+                    try {
+                        onResult.accept(result);
+                    } catch (RuntimeException e) {
+                        log.warn("⚠️ [BATCH] Interrompendo lote: {}", e.getMessage());
+                        aborted.set(true);
+                    }
+                } finally {
+                    permits.release();
+                }
+            }, semanticExecutor));
+        }
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0]));
+    }
+
+    private BatchLookupResultDTO resolve(String word) {
+        try {
+            WordDetailsDTO details = semanticService.getWordDetails(word);
+            return new BatchLookupResultDTO(word, details, null);
+        } catch (WordNotFoundException e) {
+            return new BatchLookupResultDTO(word, null, "Palavra não encontrada no dicionário");
+        } catch (UpstreamUnavailableException e) {
+            return new BatchLookupResultDTO(word, null, "Dicionário indisponível no momento");
+        } catch (DeadlineExceededException e) {
+            // Sem prazo não adianta seguir com o lote: o erro encerra a resposta
+            throw e;
+        } catch (Exception e) {
+            log.error("❌ [BATCH] Erro ao buscar palavra '{}': {}", word, e.getMessage());
+            return new BatchLookupResultDTO(word, null, "Erro ao buscar palavra");
+        }
+    }
+}
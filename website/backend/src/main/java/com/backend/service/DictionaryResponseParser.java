@@ -0,0 +1,168 @@
+package com.backend.service;
+
+import com.backend.dto.DefinitionDTO;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.WordDetailsDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê a resposta da API do dicionário (dictionaryapi.dev) token a token, direto do stream,
+ * montando os DTOs sem criar a árvore JsonNode. Só a primeira entrada do array é lida;
+ * o restante da resposta é consumido e descartado sem ser processado, para que a conexão
+ * keep-alive possa ser reaproveitada.
+ */
+@Component
+public class DictionaryResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public DictionaryResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * @return os detalhes da primeira entrada, ou null se a resposta não tiver nenhuma
+     */
+    public WordDetailsDTO parseFirstEntry(InputStream body, String originalWord) throws IOException {
+        WordDetailsDTO details = null;
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            // Fechar o stream antes do fim descartaria a conexão HTTP/1.1 em vez de devolvê-la ao pool
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() == JsonToken.START_ARRAY && parser.nextToken() == JsonToken.START_OBJECT) {
+                details = readEntry(parser, originalWord);
+            }
+        }
+        body.transferTo(OutputStream.nullOutputStream());
+        return details;
+    }
+
+    private WordDetailsDTO readEntry(JsonParser parser, String originalWord) throws IOException {
+        String word = null;
+        String phonetic = null;
+        List<MeaningDTO> meanings = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "word" -> word = readText(parser, null);
+                case "phonetics" -> phonetic = readPhonetic(parser);
+                case "meanings" -> readMeanings(parser, meanings);
+                default -> parser.skipChildren();
+            }
+        }
+        return new WordDetailsDTO(word != null ? word : originalWord, phonetic, meanings, null);
+    }
+
+    // Primeiro "text" não vazio do array "phonetics"
+    private String readPhonetic(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        String phonetic = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("text".equals(field) && phonetic == null) {
+                    String text = readText(parser, "");
+                    if (!text.isEmpty()) {
+                        phonetic = text;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return phonetic;
+    }
+
+    private void readMeanings(JsonParser parser, List<MeaningDTO> meanings) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String partOfSpeech = "";
+            List<DefinitionDTO> definitions = new ArrayList<>();
+            List<String> synonyms = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "partOfSpeech" -> partOfSpeech = readText(parser, "");
+                    case "definitions" -> readDefinitions(parser, definitions);
+                    case "synonyms" -> readStrings(parser, synonyms);
+                    default -> parser.skipChildren();
+                }
+            }
+            meanings.add(new MeaningDTO(partOfSpeech, definitions, synonyms));
+        }
+    }
+
+    private void readDefinitions(JsonParser parser, List<DefinitionDTO> definitions) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String definition = "";
+            String example = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "definition" -> definition = readText(parser, "");
+                    case "example" -> example = readText(parser, null);
+                    default -> parser.skipChildren();
+                }
+            }
+            definitions.add(new DefinitionDTO(definition, example));
+        }
+    }
+
+    private void readStrings(JsonParser parser, List<String> values) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readText(parser, ""));
+        }
+    }
+
+    // Valor escalar como texto; objetos e arrays são pulados e tratados como ausentes
+    private String readText(JsonParser parser, String missing) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return missing;
+        }
+        if (token.isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        parser.skipChildren();
+        return missing;
+    }
+}
@@ -0,0 +1,94 @@
+package com.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.query.QuerySolution;
+import org.apache.jena.query.ResultSet;
+import org.apache.jena.system.Txn;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Cópia local (Jena TDB2, em disco) dos lexemas em inglês da Wikidata, gerada pelo
+ * LexemeMirrorImporter. Os triplos são os mesmos do dump da Wikidata, então as consultas SPARQL
+ * feitas ao endpoint público rodam aqui sem alteração; a busca por lema exato
+ * (?lexeme wikibase:lemma "house"@en) usa o índice POS do TDB2 e responde em milissegundos.
+ * Sem o diretório do dataset, o espelho fica desativado e as consultas vão para a Wikidata.
+ */
+@Component
+@Slf4j
+public class LexemeMirror {
+
+    private final Path datasetPath;
+    private volatile Dataset dataset;
+
+    public LexemeMirror(@Value("${semantic.lexemes.tdb-path:data/lexemes-tdb2}") String datasetPath) {
+        this.datasetPath = Path.of(datasetPath);
+        if (containsDataset(this.datasetPath)) {
+            dataset = TDB2Factory.connectDataset(datasetPath);
+            log.info("📚 Espelho de lexemas da Wikidata aberto em {}", datasetPath);
+        } else {
+            log.info("ℹ️ Espelho de lexemas não encontrado em {}, definições virão da Wikidata", datasetPath);
+        }
+    }
+
+    public Path getDatasetPath() {
+        return datasetPath;
+    }
+
+    public boolean isAvailable() {
+        return dataset != null;
+    }
+
+    /**
+     * Executa uma consulta SELECT no dataset local, numa transação de leitura.
+     */
+    public void select(String sparqlQuery, Consumer<QuerySolution> onSolution) {
+        Dataset local = dataset;
+        if (local == null) {
+            throw new IllegalStateException("Espelho de lexemas indisponível");
+        }
+        Txn.executeRead(local, () -> {
+            try (QueryExecution qExec = QueryExecutionFactory.create(sparqlQuery, local)) {
+                ResultSet results = qExec.execSelect();
+                while (results.hasNext()) {
+                    onSolution.accept(results.nextSolution());
+                }
+            }
+        });
+    }
+
+    /**
+     * Dataset onde a importação grava (criado se ainda não existir). As consultas feitas durante a
+     * importação veem apenas os lotes já confirmados.
+     */
+    Dataset datasetForImport() throws IOException {
+        Dataset local = dataset;
+        if (local == null) {
+            Files.createDirectories(datasetPath);
+            local = TDB2Factory.connectDataset(datasetPath.toString());
+            dataset = local;
+        }
+        return local;
+    }
+
+    private static boolean containsDataset(Path path) {
+        if (!Files.isDirectory(path)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.findAny().isPresent();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.system.Txn;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Importa para o LexemeMirror o subconjunto dos lexemas da Wikidata usado nas definições:
+ * idioma do lexema (só inglês), lemas em inglês, ligação lexema-sentido e definições em inglês.
+ * A origem é o dump RDF de lexemas da Wikidata (latest-lexemes.nt.gz / .ttl.gz) ou um arquivo
+ * pequeno com os mesmos predicados, para ambientes de teste sem acesso à Wikidata.
+ */
+@Service
+@Slf4j
+public class LexemeMirrorImporter {
+
+    private static final int BATCH_SIZE = 100_000;
+
+    private static final Node LANGUAGE = NodeFactory.createURI("http://purl.org/dc/terms/language");
+    private static final Node ENGLISH = NodeFactory.createURI("http://www.wikidata.org/entity/Q1860");
+    private static final Node LEMMA = NodeFactory.createURI("http://wikiba.se/ontology#lemma");
+    private static final Node SENSE = NodeFactory.createURI("http://www.w3.org/ns/lemon/ontolex#sense");
+    private static final Node DEFINITION = NodeFactory.createURI("http://www.w3.org/2004/02/skos/core#definition");
+
+    private final LexemeMirror lexemeMirror;
+
+    public LexemeMirrorImporter(LexemeMirror lexemeMirror) {
+        this.lexemeMirror = lexemeMirror;
+    }
+
+    /**
+     * Substitui o conteúdo do espelho pelos triplos selecionados do arquivo.
+     *
+     * @param source dump RDF (N-Triples ou Turtle, opcionalmente .gz; o formato vem da extensão)
+     * @return quantidade de triplos gravados
+     */
+    public long importLexemes(Path source) throws IOException {
+        log.info("📥 Importando lexemas da Wikidata de {} para {}", source, lexemeMirror.getDatasetPath());
+        long start = System.nanoTime();
+        Dataset dataset = lexemeMirror.datasetForImport();
+        Txn.executeWrite(dataset, () -> dataset.asDatasetGraph().clear());
+
+        LexemeFilter filter = new LexemeFilter(dataset);
+        RDFParser.source(source).parse(filter);
+        filter.flush();
+
+        log.info("✅ {} triplos de {} lidos gravados no espelho de lexemas em {} s",
+                filter.written, filter.read, (System.nanoTime() - start) / 1_000_000_000);
+        return filter.written;
+    }
+
+    private static boolean isKept(Triple triple) {
+        Node predicate = triple.getPredicate();
+        Node object = triple.getObject();
+        if (predicate.equals(LANGUAGE)) {
+            return object.equals(ENGLISH);
+        }
+        if (predicate.equals(LEMMA) || predicate.equals(DEFINITION)) {
+            return object.isLiteral() && "en".equalsIgnoreCase(object.getLiteralLanguage());
+        }
+        return predicate.equals(SENSE);
+    }
+
+    // Acumula os triplos selecionados e grava em lotes, cada um numa transação de escrita
+    private static final class LexemeFilter extends StreamRDFBase {
+
+        private final Dataset dataset;
+        private final Graph graph;
+        private final List<Triple> batch = new ArrayList<>(BATCH_SIZE);
+        private long read;
+        private long written;
+
+        LexemeFilter(Dataset dataset) {
+            this.dataset = dataset;
+            this.graph = dataset.asDatasetGraph().getDefaultGraph();
+        }
+
+        @Override
+        public void triple(Triple triple) {
+            read++;
+            if (isKept(triple)) {
+                batch.add(triple);
+                if (batch.size() == BATCH_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void quad(Quad quad) {
+            triple(quad.asTriple());
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Txn.executeWrite(dataset, () -> batch.forEach(graph::add));
+            written += batch.size();
+            batch.clear();
+            log.info("💾 {} triplos gravados ({} lidos)", written, read);
+        }
+    }
+}
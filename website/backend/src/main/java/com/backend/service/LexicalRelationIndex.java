@@ -0,0 +1,104 @@
+package com.backend.service;
+
+import com.backend.Util.LexicalRelationGraph;
+import com.backend.Util.LexicalRelationGraph.Edge;
+import com.backend.Util.LexicalRelationGraph.Relation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Relações lexicais (sinônimos, antônimos, hiperônimos, derivações, domínio e relacionadas) usadas na
+ * rede semântica, carregadas uma vez na inicialização para um LexicalRelationGraph.
+ * O arquivo tem uma aresta por linha: palavra, relação, palavra relacionada e peso, separados por TAB
+ * (linhas com # são comentários; .gz é descompactado). Sem o arquivo em semantic.relations.path, vale
+ * o lexical-relations.tsv do classpath, com as relações básicas do projeto.
+ */
+@Service
+@Slf4j
+public class LexicalRelationIndex {
+
+    private static final String BUNDLED_RELATIONS = "lexical-relations.tsv";
+
+    private final LexicalRelationGraph graph;
+
+    public LexicalRelationIndex(@Value("${semantic.relations.path:data/lexical-relations.tsv}") String relationsPath) {
+        this.graph = load(Path.of(relationsPath));
+    }
+
+    /**
+     * Vizinhos da palavra pelas relações pedidas, do maior peso para o menor dentro de cada relação.
+     */
+    public List<Edge> neighbours(String word, Set<Relation> relations, int limitPerRelation) {
+        return graph.neighbours(SemanticService.normalizeWord(word), relations, limitPerRelation);
+    }
+
+    private static LexicalRelationGraph load(Path relationsPath) {
+        long start = System.nanoTime();
+        LexicalRelationGraph.Builder builder = new LexicalRelationGraph.Builder();
+        String source = Files.isRegularFile(relationsPath) ? relationsPath.toString() : "classpath:" + BUNDLED_RELATIONS;
+        try (BufferedReader reader = open(relationsPath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                addEdge(builder, line);
+            }
+        } catch (IOException e) {
+            log.error("❌ Erro ao ler as relações lexicais de {}: {}", source, e.getMessage());
+            return LexicalRelationGraph.empty();
+        }
+        LexicalRelationGraph graph = builder.build();
+        log.info("🔗 Relações lexicais carregadas de {}: {} palavras, {} arestas (~{} KB) em {} ms",
+                source, graph.wordCount(), graph.edgeCount(), graph.approximateBytes() / 1024,
+                (System.nanoTime() - start) / 1_000_000);
+        return graph;
+    }
+
+    private static void addEdge(LexicalRelationGraph.Builder builder, String line) {
+        String[] fields = line.split("\t");
+        Relation relation = fields.length >= 3 ? Relation.fromId(fields[1].trim()) : null;
+        if (relation == null) {
+            log.warn("⚠️ Linha inválida no arquivo de relações lexicais: {}", line);
+            return;
+        }
+        float weight = 1.0f;
+        if (fields.length >= 4) {
+            try {
+                weight = Float.parseFloat(fields[3].trim());
+            } catch (NumberFormatException e) {
+                log.warn("⚠️ Peso inválido no arquivo de relações lexicais: {}", line);
+            }
+        }
+        builder.add(SemanticService.normalizeWord(fields[0]), relation, SemanticService.normalizeWord(fields[2]), weight);
+    }
+
+    private static BufferedReader open(Path relationsPath) throws IOException {
+        InputStream in;
+        String name;
+        if (Files.isRegularFile(relationsPath)) {
+            in = Files.newInputStream(relationsPath);
+            name = relationsPath.getFileName().toString();
+        } else {
+            in = new ClassPathResource(BUNDLED_RELATIONS).getInputStream();
+            name = BUNDLED_RELATIONS;
+        }
+        if (name.endsWith(".gz")) {
+            in = new GZIPInputStream(in, 1 << 16);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+    }
+}
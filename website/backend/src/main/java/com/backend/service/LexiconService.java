@@ -0,0 +1,165 @@
+package com.backend.service;
+
+import com.backend.Util.PrefixTrie;
+import com.backend.Util.SymSpellIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Léxico usado nas sugestões de palavras: a lista de palavras do arquivo local mais as palavras
+ * que o SemanticService já resolveu, cada uma com sua popularidade (quantidade de buscas).
+ * A trie de prefixos guarda as mais buscadas de cada prefixo e é reconstruída periodicamente, fora do
+ * caminho das requisições. O índice de correção ortográfica é montado uma vez com a lista de palavras
+ * e depois só recebe as palavras novas; a popularidade é lida na hora da consulta.
+ */
+@Service
+@Slf4j
+public class LexiconService {
+
+    private static final int MAX_SUGGESTIONS_PER_NODE = 10;
+    private static final int SPELLING_MAX_DISTANCE = 2;
+    private static final int SPELLING_PREFIX_LENGTH = 7;
+
+    private final Map<String, LongAdder> popularity = new ConcurrentHashMap<>();
+    // Palavras buscadas que ainda não estão no índice de correção ortográfica
+    private final Set<String> unindexedWords = ConcurrentHashMap.newKeySet();
+    private final Path lexiconPath;
+    private volatile boolean dirty;
+    private volatile PrefixTrie prefixTrie = PrefixTrie.build(new String[0], new long[0], MAX_SUGGESTIONS_PER_NODE);
+    private volatile SymSpellIndex spellingIndex;
+
+    public LexiconService(@Value("${semantic.lexicon.path:data/lexicon.txt}") String lexiconPath) {
+        this.lexiconPath = Path.of(lexiconPath);
+        loadWordList();
+        String[] words = popularity.keySet().toArray(new String[0]);
+        Arrays.sort(words);
+        spellingIndex = SymSpellIndex.build(words, SPELLING_MAX_DISTANCE, SPELLING_PREFIX_LENGTH);
+        rebuild();
+    }
+
+    public int getMaxSuggestions() {
+        return MAX_SUGGESTIONS_PER_NODE;
+    }
+
+    /**
+     * Registra uma busca bem-sucedida da palavra (já normalizada).
+     */
+    public void recordLookup(String normalizedWord) {
+        LongAdder counter = popularity.get(normalizedWord);
+        if (counter == null) {
+            LongAdder created = new LongAdder();
+            counter = popularity.putIfAbsent(normalizedWord, created);
+            if (counter == null) {
+                counter = created;
+                unindexedWords.add(normalizedWord);
+            }
+        }
+        counter.increment();
+        dirty = true;
+    }
+
+    /**
+     * Palavras que começam com o prefixo (já normalizado), das mais buscadas para as menos.
+     */
+    public List<String> suggest(String normalizedPrefix, int limit) {
+        List<String> result = new ArrayList<>(limit);
+        prefixTrie.suggest(normalizedPrefix, limit, result);
+        return result;
+    }
+
+    /**
+     * Sugestões de grafia ("você quis dizer") para uma palavra não encontrada (já normalizada),
+     * das mais próximas para as mais distantes e, em empate, das mais buscadas.
+     */
+    public List<String> didYouMean(String normalizedWord, int limit) {
+        if (normalizedWord.isEmpty()) {
+            return List.of();
+        }
+        return spellingIndex.lookup(normalizedWord, limit, this::popularityOf);
+    }
+
+    @Scheduled(fixedDelayString = "${semantic.lexicon.rebuild-interval:60s}")
+    public void rebuildIfDirty() {
+        if (dirty) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        dirty = false;
+        long start = System.nanoTime();
+        String[] words = popularity.keySet().toArray(new String[0]);
+        Arrays.sort(words);
+        long[] scores = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            LongAdder counter = popularity.get(words[i]);
+            scores[i] = counter == null ? 0 : counter.sum();
+        }
+        prefixTrie = PrefixTrie.build(words, scores, MAX_SUGGESTIONS_PER_NODE);
+        indexNewWords();
+        log.debug("🔤 Índices de sugestões atualizados com {} palavras em {} ms",
+                words.length, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Só as variações das palavras novas são geradas; as do índice atual são reaproveitadas
+    private void indexNewWords() {
+        List<String> added = new ArrayList<>();
+        for (String word : unindexedWords) {
+            if (unindexedWords.remove(word)) {
+                added.add(word);
+            }
+        }
+        if (!added.isEmpty()) {
+            spellingIndex = spellingIndex.withWords(added.toArray(new String[0]));
+        }
+    }
+
+    private long popularityOf(String word) {
+        LongAdder counter = popularity.get(word);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    // Uma palavra por linha, opcionalmente seguida de TAB e de uma contagem de frequência inicial
+    private void loadWordList() {
+        if (!Files.isRegularFile(lexiconPath)) {
+            log.info("ℹ️ Lista de palavras não encontrada em {}, sugestões usarão apenas palavras já buscadas", lexiconPath);
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(lexiconPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                String word = SemanticService.normalizeWord(tab >= 0 ? line.substring(0, tab) : line);
+                LongAdder counter = popularity.computeIfAbsent(word, key -> new LongAdder());
+                if (tab >= 0) {
+                    try {
+                        counter.add(Long.parseLong(line.substring(tab + 1).trim()));
+                    } catch (NumberFormatException e) {
+                        log.warn("⚠️ Frequência inválida na lista de palavras: {}", line);
+                    }
+                }
+            }
+            log.info("🔤 Lista de palavras carregada: {} palavras de {}", popularity.size(), lexiconPath);
+        } catch (IOException e) {
+            log.error("❌ Erro ao ler a lista de palavras {}: {}", lexiconPath, e.getMessage());
+        }
+    }
+}
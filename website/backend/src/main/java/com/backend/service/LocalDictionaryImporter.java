@@ -0,0 +1,201 @@
+package com.backend.service;
+
+import com.backend.Util.WordDetailsCodec;
+import com.backend.dto.DefinitionDTO;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.WordDetailsDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Importa um dump do Wiktionary no formato JSONL do kaikki.org (um objeto por palavra e classe
+ * gramatical) para o índice binário lido pelo LocalDictionaryStore.
+ */
+@Service
+@Slf4j
+public class LocalDictionaryImporter {
+
+    private final ObjectMapper objectMapper;
+
+    public LocalDictionaryImporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    private record IndexEntry(byte[] key, long recordOffset, int recordLength, int sequence) {}
+
+    private static final Comparator<IndexEntry> BY_KEY = (a, b) -> {
+        int cmp = Arrays.compareUnsigned(a.key(), b.key());
+        return cmp != 0 ? cmp : Integer.compare(a.sequence(), b.sequence());
+    };
+
+    /**
+     * @param source arquivo JSONL do kaikki (pode estar compactado em .gz)
+     * @param target arquivo de índice a ser gerado (substituído ao final)
+     * @return quantidade de entradas gravadas
+     */
+    public int importKaikki(Path source, Path target) throws IOException {
+        log.info("📥 Importando dicionário de {} para {}", source, target);
+        Path records = Files.createTempFile("local-dictionary-records", ".bin");
+        List<IndexEntry> entries = new ArrayList<>();
+        try {
+            try (BufferedReader reader = openReader(source);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(records)))) {
+                ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+                DataOutputStream recordOut = new DataOutputStream(recordBytes);
+                String line;
+                long lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    WordDetailsDTO details;
+                    try {
+                        details = parseKaikkiEntry(objectMapper.readTree(line));
+                    } catch (IOException e) {
+                        log.warn("⚠️ Linha {} ignorada: {}", lineNumber, e.getMessage());
+                        continue;
+                    }
+                    if (details == null) {
+                        continue;
+                    }
+                    recordBytes.reset();
+                    WordDetailsCodec.write(recordOut, details);
+                    byte[] key = SemanticService.normalizeWord(details.word()).getBytes(StandardCharsets.UTF_8);
+                    entries.add(new IndexEntry(key, out.size(), recordBytes.size(), entries.size()));
+                    recordBytes.writeTo(out);
+                    if (entries.size() % 100_000 == 0) {
+                        log.info("📥 {} entradas lidas...", entries.size());
+                    }
+                }
+            }
+            entries.sort(BY_KEY);
+            writeIndex(entries, records, target);
+            log.info("✅ Dicionário local importado: {} entradas", entries.size());
+            return entries.size();
+        } finally {
+            Files.deleteIfExists(records);
+        }
+    }
+
+    private BufferedReader openReader(Path source) throws IOException {
+        InputStream in = Files.newInputStream(source);
+        if (source.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in, 1 << 16);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    // Converte uma entrada do kaikki em um WordDetailsDTO com um único significado
+    private WordDetailsDTO parseKaikkiEntry(JsonNode entry) {
+        String langCode = entry.path("lang_code").asText("en");
+        String word = entry.path("word").asText("");
+        if (!"en".equals(langCode) || word.isBlank()) {
+            return null;
+        }
+
+        List<DefinitionDTO> definitions = new ArrayList<>();
+        Set<String> synonyms = new LinkedHashSet<>();
+        for (JsonNode sense : entry.path("senses")) {
+            JsonNode glosses = sense.path("glosses");
+            if (glosses.isArray() && glosses.size() > 0) {
+                // A última glosa é a mais específica (as anteriores repetem o sentido "pai")
+                String gloss = glosses.get(glosses.size() - 1).asText();
+                String example = sense.path("examples").path(0).path("text").asText(null);
+                definitions.add(new DefinitionDTO(gloss, example));
+            }
+            for (JsonNode synonym : sense.path("synonyms")) {
+                addSynonym(synonyms, synonym);
+            }
+        }
+        for (JsonNode synonym : entry.path("synonyms")) {
+            addSynonym(synonyms, synonym);
+        }
+        if (definitions.isEmpty()) {
+            return null;
+        }
+
+        String phonetic = null;
+        for (JsonNode sound : entry.path("sounds")) {
+            String ipa = sound.path("ipa").asText("");
+            if (!ipa.isEmpty()) {
+                phonetic = ipa;
+                break;
+            }
+        }
+        MeaningDTO meaning = new MeaningDTO(entry.path("pos").asText(""), definitions, new ArrayList<>(synonyms));
+        return new WordDetailsDTO(word, phonetic, List.of(meaning), null);
+    }
+
+    private void addSynonym(Set<String> synonyms, JsonNode synonym) {
+        String value = synonym.path("word").asText("");
+        if (!value.isBlank()) {
+            synonyms.add(value);
+        }
+    }
+
+    private void writeIndex(List<IndexEntry> entries, Path records, Path target) throws IOException {
+        long keysBytes = 0;
+        for (IndexEntry entry : entries) {
+            keysBytes += entry.key().length;
+        }
+        long keysStart = LocalDictionaryStore.HEADER_BYTES + (long) entries.size() * LocalDictionaryStore.INDEX_ENTRY_BYTES;
+        long recordsStart = keysStart + keysBytes;
+        long totalBytes = recordsStart + Files.size(records);
+        // O índice é mapeado em um único MappedByteBuffer, limitado a 2 GB
+        if (totalBytes > Integer.MAX_VALUE) {
+            throw new IOException("Índice excede o limite de 2 GB: " + totalBytes + " bytes");
+        }
+
+        if (target.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(LocalDictionaryStore.MAGIC);
+            out.writeInt(LocalDictionaryStore.VERSION);
+            out.writeInt(entries.size());
+            long keyOffset = keysStart;
+            for (IndexEntry entry : entries) {
+                out.writeInt((int) keyOffset);
+                out.writeInt(entry.key().length);
+                out.writeInt((int) (recordsStart + entry.recordOffset()));
+                out.writeInt(entry.recordLength());
+                keyOffset += entry.key().length;
+            }
+            for (IndexEntry entry : entries) {
+                out.write(entry.key());
+            }
+            copy(records, out);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void copy(Path source, OutputStream out) throws IOException {
+        try (InputStream in = Files.newInputStream(source)) {
+            in.transferTo(out);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.backend.service;
+
+import com.backend.Util.WordDetailsCodec;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.WordDetailsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Dicionário local, consultado antes da API remota.
+ * O índice é um arquivo mapeado em memória (gerado pelo LocalDictionaryImporter) com o layout:
+ * <pre>
+ * cabeçalho: MAGIC, VERSION, quantidade de entradas (int)
+ * índice:    por entrada, ordenado pela chave: keyOffset, keyLength, recordOffset, recordLength (int)
+ * chaves:    palavras normalizadas em UTF-8
+ * registros: WordDetailsDTO no formato do WordDetailsCodec (um por classe gramatical)
+ * </pre>
+ * Entradas com a mesma chave ficam contíguas e são unidas em um único WordDetailsDTO na consulta.
+ */
+@Component
+@Slf4j
+public class LocalDictionaryStore {
+
+    static final int MAGIC = 0x45464144; // "EFAD"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 12;
+    static final int INDEX_ENTRY_BYTES = 16;
+
+    private final Path indexPath;
+    private volatile MappedByteBuffer buffer;
+    private volatile int entryCount;
+
+    public LocalDictionaryStore(@Value("${semantic.local-dictionary.path:data/local-dictionary.idx}") String indexPath) {
+        this.indexPath = Path.of(indexPath);
+        reload();
+    }
+
+    public Path getIndexPath() {
+        return indexPath;
+    }
+
+    public boolean isAvailable() {
+        return buffer != null;
+    }
+
+    /**
+     * (Re)abre o arquivo de índice. Sem o arquivo, o dicionário local fica desativado.
+     */
+    public synchronized void reload() {
+        if (!Files.isRegularFile(indexPath)) {
+            log.info("ℹ️ Dicionário local não encontrado em {}, usando apenas a API remota", indexPath);
+            buffer = null;
+            entryCount = 0;
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                log.error("❌ Arquivo {} não é um índice de dicionário válido", indexPath);
+                buffer = null;
+                entryCount = 0;
+                return;
+            }
+            entryCount = mapped.getInt(8);
+            buffer = mapped;
+            log.info("📚 Dicionário local carregado: {} entradas de {}", entryCount, indexPath);
+        } catch (IOException e) {
+            log.error("❌ Erro ao abrir o dicionário local {}: {}", indexPath, e.getMessage());
+            buffer = null;
+            entryCount = 0;
+        }
+    }
+
+    public Optional<WordDetailsDTO> find(String normalizedWord) {
+        MappedByteBuffer mapped = buffer;
+        int count = entryCount;
+        if (mapped == null || count == 0) {
+            return Optional.empty();
+        }
+        byte[] key = normalizedWord.getBytes(StandardCharsets.UTF_8);
+        int first = lowerBound(mapped, count, key);
+        if (first >= count || compareKey(mapped, first, key) != 0) {
+            return Optional.empty();
+        }
+        try {
+            WordDetailsDTO merged = null;
+            for (int i = first; i < count && compareKey(mapped, i, key) == 0; i++) {
+                merged = merge(merged, readRecord(mapped, i));
+            }
+            return Optional.ofNullable(merged);
+        } catch (IOException e) {
+            log.error("❌ Registro corrompido no dicionário local para '{}': {}", normalizedWord, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Primeira posição cuja chave é >= key (busca binária sobre o índice ordenado)
+    private int lowerBound(ByteBuffer mapped, int count, byte[] key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKey(mapped, mid, key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareKey(ByteBuffer mapped, int entry, byte[] key) {
+        int position = HEADER_BYTES + entry * INDEX_ENTRY_BYTES;
+        int keyOffset = mapped.getInt(position);
+        int keyLength = mapped.getInt(position + 4);
+        int length = Math.min(keyLength, key.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = Integer.compare(mapped.get(keyOffset + i) & 0xff, key[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(keyLength, key.length);
+    }
+
+    private WordDetailsDTO readRecord(ByteBuffer mapped, int entry) throws IOException {
+        int position = HEADER_BYTES + entry * INDEX_ENTRY_BYTES;
+        int recordOffset = mapped.getInt(position + 8);
+        int recordLength = mapped.getInt(position + 12);
+        byte[] record = new byte[recordLength];
+        mapped.get(recordOffset, record);
+        return WordDetailsCodec.read(new DataInputStream(new ByteArrayInputStream(record)));
+    }
+
+    private WordDetailsDTO merge(WordDetailsDTO merged, WordDetailsDTO record) {
+        if (merged == null) {
+            return record;
+        }
+        List<MeaningDTO> meanings = new ArrayList<>(merged.meanings());
+        meanings.addAll(record.meanings());
+        String phonetic = merged.phonetic() != null ? merged.phonetic() : record.phonetic();
+        return new WordDetailsDTO(merged.word(), phonetic, meanings, merged.translation());
+    }
+}
@@ -0,0 +1,78 @@
+package com.backend.service;
+
+import com.backend.Util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Guarda as palavras que a API do dicionário confirmou como inexistentes (404).
+ * O filtro de Bloom responde rapidamente "nunca vi essa palavra" para a maioria das buscas;
+ * quando ele responde "talvez", o cache com TTL confirma se a falha ainda é válida.
+ */
+@Component
+@Slf4j
+public class NegativeLookupCache {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final Cache<String, Boolean> missingWordsCache;
+    private final int expectedInsertions;
+    private final AtomicInteger insertions = new AtomicInteger();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile BloomFilter bloomFilter;
+
+    public NegativeLookupCache(Cache<String, Boolean> missingWordsCache,
+                               @Value("${semantic.cache.missing-words.bloom-expected-insertions:100000}") int expectedInsertions) {
+        this.missingWordsCache = missingWordsCache;
+        this.expectedInsertions = expectedInsertions;
+        this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    public boolean isKnownMissing(String normalizedWord) {
+        return bloomFilter.mightContain(normalizedWord)
+                && missingWordsCache.getIfPresent(normalizedWord) != null;
+    }
+
+    public void recordMissing(String normalizedWord) {
+        missingWordsCache.put(normalizedWord, Boolean.TRUE);
+        bloomFilter.put(normalizedWord);
+        if (insertions.incrementAndGet() >= expectedInsertions) {
+            rebuildBloomFilter();
+        }
+    }
+
+    // O filtro de Bloom não permite remoção: quando ele satura, é reconstruído
+    // apenas com as palavras que ainda estão no cache (as expiradas são descartadas).
+    // Quem encontra uma reconstrução em andamento segue sem esperar (e sem prender uma thread virtual).
+    private void rebuildBloomFilter() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            if (insertions.get() < expectedInsertions) {
+                return;
+            }
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+            int size = 0;
+            for (String word : missingWordsCache.asMap().keySet()) {
+                rebuilt.put(word);
+                size++;
+            }
+            bloomFilter = rebuilt;
+            // Quem gravou durante a cópia pode ter posto a palavra só no filtro antigo:
+            // uma segunda passada, depois da troca, garante que ela também está no novo
+            for (String word : missingWordsCache.asMap().keySet()) {
+                rebuilt.put(word);
+            }
+            insertions.set(size);
+            log.info("🧹 Filtro de Bloom de palavras inexistentes reconstruído com {} palavras", size);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
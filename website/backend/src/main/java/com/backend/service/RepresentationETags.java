@@ -0,0 +1,39 @@
+package com.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * ETags fortes (hash do JSON) para representações mantidas em cache no servidor, como os
+ * WordDetailsDTO do wordDetailsCache. O hash é calculado uma vez por objeto; nas requisições
+ * seguintes com If-None-Match, o 304 sai sem serializar o corpo de novo.
+ * Respostas montadas a cada requisição ficam com o ETag do ShallowEtagHeaderFilter.
+ */
+@Component
+public class RepresentationETags {
+
+    private final Cache<Object, String> representationETagCache;
+    private final ObjectMapper objectMapper;
+
+    public RepresentationETags(@Qualifier("representationETagCache") Cache<Object, String> representationETagCache,
+                               ObjectMapper objectMapper) {
+        this.representationETagCache = representationETagCache;
+        this.objectMapper = objectMapper;
+    }
+
+    public String of(Object representation) {
+        return representationETagCache.get(representation, this::hash);
+    }
+
+    private String hash(Object representation) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(representation)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Representação não serializável: " + representation.getClass().getName(), e);
+        }
+    }
+}
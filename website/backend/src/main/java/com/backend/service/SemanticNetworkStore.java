@@ -0,0 +1,249 @@
+package com.backend.service;
+
+import com.backend.controller.SemanticController.LanguageConnection;
+import com.backend.controller.SemanticController.RelatedWord;
+import com.backend.controller.SemanticController.SemanticNetworkDTO;
+import com.backend.controller.SemanticController.WordOrigin;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.system.Txn;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redes semânticas já calculadas, guardadas como triplos num dataset Jena TDB2 em disco, no
+ * vocabulário http://englishforalltime.com/vocabulary/ (o mesmo do RDF gerado por palavra).
+ * Cada palavra fica num grafo nomeado próprio (.../vocabulary/network/{palavra}), então atualizar
+ * uma rede substitui só o grafo dela. Junto com a rede ficam a data do cálculo e os hashes das
+ * respostas externas usadas, para saber quando uma delas mudou.
+ */
+@Component
+@Slf4j
+public class SemanticNetworkStore {
+
+    private static final String VOCAB = "http://englishforalltime.com/vocabulary/";
+    private static final String NETWORK_GRAPH = VOCAB + "network/";
+
+    private static final Property ETYMOLOGY = property("etymology");
+    private static final Property WORD_FAMILY = property("wordFamily");
+    private static final Property SYNONYM = property("synonym");
+    private static final Property ANTONYM = property("antonym");
+    private static final Property RELATED_WORD = property("relatedWord");
+    private static final Property COGNATE = property("cognate");
+    private static final Property ORIGIN = property("origin");
+    private static final Property LANGUAGE_CONNECTION = property("languageConnection");
+    private static final Property WORD = property("word");
+    private static final Property RELATION = property("relation");
+    private static final Property SIMILARITY = property("similarity");
+    private static final Property LANGUAGE = property("language");
+    private static final Property FORM = property("form");
+    private static final Property MEANING = property("meaning");
+    private static final Property POSITION = property("position");
+    private static final Property COMPUTED_AT = property("computedAt");
+    private static final Property DETAILS_HASH = property("detailsHash");
+    private static final Property DEFINITION_HASH = property("definitionHash");
+    private static final Resource WORD_CLASS = ResourceFactory.createResource(VOCAB + "Word");
+
+    /**
+     * Rede guardada e a procedência dela: quando foi calculada e os hashes dos detalhes da palavra
+     * e da definição da Wikidata usados no cálculo.
+     */
+    public record StoredNetwork(SemanticNetworkDTO network, long computedAt, String detailsHash, String definitionHash) {
+    }
+
+    private final Dataset dataset;
+
+    public SemanticNetworkStore(@Value("${semantic.network.tdb-path:data/semantic-network-tdb2}") String datasetPath) {
+        try {
+            Files.createDirectories(Path.of(datasetPath));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o diretório " + datasetPath, e);
+        }
+        this.dataset = TDB2Factory.connectDataset(datasetPath);
+        log.info("🕸️ Redes semânticas persistidas em {}", datasetPath);
+    }
+
+    public boolean contains(String normalizedWord) {
+        String graph = graphUri(normalizedWord);
+        return Txn.calculateRead(dataset, () -> dataset.containsNamedModel(graph));
+    }
+
+    public Optional<StoredNetwork> find(String normalizedWord) {
+        String graph = graphUri(normalizedWord);
+        return Txn.calculateRead(dataset, () -> {
+            if (!dataset.containsNamedModel(graph)) {
+                return Optional.empty();
+            }
+            return Optional.of(read(dataset.getNamedModel(graph), normalizedWord));
+        });
+    }
+
+    /**
+     * Substitui a rede da palavra (só o grafo dela) numa transação de escrita.
+     */
+    public void save(String normalizedWord, StoredNetwork stored) {
+        Model model = write(normalizedWord, stored);
+        String graph = graphUri(normalizedWord);
+        Txn.executeWrite(dataset, () -> {
+            dataset.removeNamedModel(graph);
+            dataset.addNamedModel(graph, model);
+        });
+    }
+
+    private static Model write(String normalizedWord, StoredNetwork stored) {
+        SemanticNetworkDTO network = stored.network();
+        Model model = ModelFactory.createDefaultModel();
+        model.setNsPrefix("vocab", VOCAB);
+        Resource word = model.createResource(wordUri(normalizedWord))
+                .addProperty(RDF.type, WORD_CLASS)
+                .addProperty(RDFS.label, network.word())
+                .addLiteral(COMPUTED_AT, stored.computedAt());
+        addIfPresent(word, ETYMOLOGY, network.etymology());
+        addIfPresent(word, WORD_FAMILY, network.wordFamily());
+        addIfPresent(word, DETAILS_HASH, stored.detailsHash());
+        addIfPresent(word, DEFINITION_HASH, stored.definitionHash());
+        addRelatedWords(word, SYNONYM, network.synonyms());
+        addRelatedWords(word, ANTONYM, network.antonyms());
+        addRelatedWords(word, RELATED_WORD, network.relatedWords());
+        if (network.cognates() != null) {
+            for (int i = 0; i < network.cognates().size(); i++) {
+                Resource cognate = model.createResource().addLiteral(POSITION, i);
+                addIfPresent(cognate, FORM, network.cognates().get(i));
+                word.addProperty(COGNATE, cognate);
+            }
+        }
+        if (network.origin() != null) {
+            Resource origin = model.createResource();
+            addIfPresent(origin, LANGUAGE, network.origin().language());
+            addIfPresent(origin, FORM, network.origin().originalForm());
+            addIfPresent(origin, MEANING, network.origin().meaning());
+            word.addProperty(ORIGIN, origin);
+        }
+        if (network.connections() != null) {
+            for (int i = 0; i < network.connections().size(); i++) {
+                LanguageConnection connection = network.connections().get(i);
+                Resource node = model.createResource().addLiteral(POSITION, i);
+                addIfPresent(node, LANGUAGE, connection.language());
+                addIfPresent(node, FORM, connection.form());
+                addIfPresent(node, MEANING, connection.meaning());
+                word.addProperty(LANGUAGE_CONNECTION, node);
+            }
+        }
+        return model;
+    }
+
+    private static void addRelatedWords(Resource word, Property property, List<RelatedWord> relatedWords) {
+        if (relatedWords == null) {
+            return;
+        }
+        for (int i = 0; i < relatedWords.size(); i++) {
+            RelatedWord related = relatedWords.get(i);
+            Resource node = word.getModel().createResource().addLiteral(POSITION, i);
+            addIfPresent(node, WORD, related.word());
+            addIfPresent(node, RELATION, related.relation());
+            if (related.similarity() != null) {
+                node.addLiteral(SIMILARITY, related.similarity().doubleValue());
+            }
+            word.addProperty(property, node);
+        }
+    }
+
+    private static StoredNetwork read(Model model, String normalizedWord) {
+        Resource word = model.getResource(wordUri(normalizedWord));
+        List<String> cognates = new ArrayList<>();
+        for (Resource node : ordered(word, COGNATE)) {
+            cognates.add(string(node, FORM));
+        }
+        Resource originNode = word.getPropertyResourceValue(ORIGIN);
+        WordOrigin origin = originNode == null ? null
+                : new WordOrigin(string(originNode, LANGUAGE), string(originNode, FORM), string(originNode, MEANING));
+        List<LanguageConnection> connections = new ArrayList<>();
+        for (Resource node : ordered(word, LANGUAGE_CONNECTION)) {
+            connections.add(new LanguageConnection(string(node, LANGUAGE), string(node, FORM), string(node, MEANING)));
+        }
+        SemanticNetworkDTO network = new SemanticNetworkDTO(
+                string(word, RDFS.label),
+                string(word, ETYMOLOGY),
+                string(word, WORD_FAMILY),
+                relatedWords(word, SYNONYM),
+                relatedWords(word, ANTONYM),
+                relatedWords(word, RELATED_WORD),
+                cognates,
+                origin,
+                connections
+        );
+        Statement computedAt = word.getProperty(COMPUTED_AT);
+        return new StoredNetwork(network, computedAt == null ? 0 : computedAt.getLong(),
+                string(word, DETAILS_HASH), string(word, DEFINITION_HASH));
+    }
+
+    private static List<RelatedWord> relatedWords(Resource word, Property property) {
+        List<RelatedWord> relatedWords = new ArrayList<>();
+        for (Resource node : ordered(word, property)) {
+            Statement similarity = node.getProperty(SIMILARITY);
+            relatedWords.add(new RelatedWord(string(node, WORD), string(node, RELATION),
+                    similarity == null ? null : similarity.getDouble()));
+        }
+        return relatedWords;
+    }
+
+    // Os nós de uma lista voltam na ordem original, pela propriedade vocab:position
+    private static List<Resource> ordered(Resource subject, Property property) {
+        List<Resource> nodes = new ArrayList<>();
+        StmtIterator statements = subject.listProperties(property);
+        while (statements.hasNext()) {
+            RDFNode object = statements.next().getObject();
+            if (object.isResource()) {
+                nodes.add(object.asResource());
+            }
+        }
+        nodes.sort(Comparator.comparingInt(node -> node.hasProperty(POSITION) ? node.getProperty(POSITION).getInt() : 0));
+        return nodes;
+    }
+
+    private static String string(Resource subject, Property property) {
+        Statement statement = subject.getProperty(property);
+        return statement == null ? null : statement.getString();
+    }
+
+    private static void addIfPresent(Resource subject, Property property, String value) {
+        if (value != null) {
+            subject.addProperty(property, value);
+        }
+    }
+
+    // Mesmo formato de URI do RDF por palavra (espaços viram "_"), com os demais caracteres codificados
+    private static String wordUri(String normalizedWord) {
+        return VOCAB + URLEncoder.encode(normalizedWord.replace(" ", "_"), StandardCharsets.UTF_8);
+    }
+
+    private static String graphUri(String normalizedWord) {
+        return NETWORK_GRAPH + URLEncoder.encode(normalizedWord.replace(" ", "_"), StandardCharsets.UTF_8);
+    }
+
+    private static Property property(String localName) {
+        return ResourceFactory.createProperty(VOCAB, localName);
+    }
+}
@@ -1,9 +1,15 @@
 package com.backend.service;
 
+import com.backend.Util.Deadline;
+import com.backend.Util.LexicalRelationGraph.Edge;
+import com.backend.Util.LexicalRelationGraph.Relation;
+import com.backend.Util.RefreshingCache;
+import com.backend.Util.SingleFlight;
 import com.backend.dto.WordDetailsDTO;
 import com.backend.dto.MeaningDTO;
-import com.backend.dto.DefinitionDTO;
 import com.backend.dto.NestedWordDetailsDTO;
+import com.backend.exception.DeadlineExceededException;
+import com.backend.exception.UpstreamUnavailableException;
 import com.backend.exception.WordNotFoundException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -11,27 +17,76 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.jena.sparql.exec.http.QueryExecutionHTTP;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 // <<< 1. NOVOS IMPORTS DA BIBLIOTECA APACHE JENA >>>
 import org.apache.jena.query.*;
 import org.apache.jena.rdf.model.Literal;
 
+import java.net.URI;
+import java.net.http.HttpClient;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
 @Slf4j
 public class SemanticService {
 
+    private static final Duration DBPEDIA_TIMEOUT = Duration.ofSeconds(5);
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final RefreshingCache<WordDetailsDTO> wordDetailsCache;
+    private final NegativeLookupCache negativeLookupCache;
+    private final ExecutorService semanticExecutor;
+    private final LocalDictionaryStore localDictionaryStore;
+    private final LexiconService lexiconService;
+    private final DictionaryResponseParser dictionaryResponseParser;
+    private final HttpClient httpClient;
+    private final UpstreamGuard upstreamGuard;
+    private final TranslationMemory translationMemory;
+    private final WikidataDefinitionService wikidataDefinitionService;
+    private final SemanticNetworkStore networkStore;
+    private final RepresentationETags representationETags;
+    private final LexicalRelationIndex lexicalRelationIndex;
+    private final WordVectorIndex wordVectorIndex;
+
+    // Redes sendo recalculadas em segundo plano, por palavra normalizada
+    private final Set<String> networkRebuilds = ConcurrentHashMap.newKeySet();
+
+    // Chamadas em andamento, por palavra normalizada: buscas simultâneas da mesma palavra
+    // compartilham uma única requisição externa (e o seu resultado ou erro).
+    private final SingleFlight<String, WordDetailsDTO> wordDetailsFlights = new SingleFlight<>();
+    private final SingleFlight<String, String> translationFlights = new SingleFlight<>();
+    private final ConcurrentHashMap<String, PendingWordDetails> pendingWordDetails = new ConcurrentHashMap<>();
 
     @Value("${dictionary.api.url:https://api.dictionaryapi.dev/api/v2/entries/en}")
     private String dictionaryApiUrl;
@@ -39,34 +94,179 @@ public class SemanticService {
     @Value("${translation.api.url:https://api.mymemory.translated.net/get}")
     private String translationApiUrl;
 
-    public SemanticService(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    @Value("${translation.api.langpair:en|pt}")
+    private String translationLangPair;
+
+    @Value("${semantic.timeout.definitions:10s}")
+    private Duration definitionsTimeout;
+
+    @Value("${semantic.timeout.translation:3s}")
+    private Duration translationTimeout;
+
+    @Value("${semantic.batch.concurrency:8}")
+    private int batchConcurrency;
+
+    @Value("${semantic.network.max-age:7d}")
+    private Duration networkMaxAge;
+
+    @Value("${semantic.relations.max-per-relation:10}")
+    private int maxRelationsPerType;
+
+    @Value("${semantic.vectors.max-k:100}")
+    private int maxSimilarWords;
+
+    public SemanticService(RestTemplate restTemplate, ObjectMapper objectMapper,
+                           RefreshingCache<WordDetailsDTO> wordDetailsCache,
+                           NegativeLookupCache negativeLookupCache,
+                           ExecutorService semanticExecutor,
+                           LocalDictionaryStore localDictionaryStore,
+                           LexiconService lexiconService,
+                           DictionaryResponseParser dictionaryResponseParser,
+                           HttpClient httpClient,
+                           UpstreamGuard upstreamGuard,
+                           TranslationMemory translationMemory,
+                           WikidataDefinitionService wikidataDefinitionService,
+                           SemanticNetworkStore networkStore,
+                           RepresentationETags representationETags,
+                           LexicalRelationIndex lexicalRelationIndex,
+                           WordVectorIndex wordVectorIndex) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.wordDetailsCache = wordDetailsCache;
+        this.negativeLookupCache = negativeLookupCache;
+        this.semanticExecutor = semanticExecutor;
+        this.localDictionaryStore = localDictionaryStore;
+        this.lexiconService = lexiconService;
+        this.dictionaryResponseParser = dictionaryResponseParser;
+        this.httpClient = httpClient;
+        this.upstreamGuard = upstreamGuard;
+        this.translationMemory = translationMemory;
+        this.wikidataDefinitionService = wikidataDefinitionService;
+        this.networkStore = networkStore;
+        this.representationETags = representationETags;
+        this.lexicalRelationIndex = lexicalRelationIndex;
+        this.wordVectorIndex = wordVectorIndex;
+    }
+
+    /**
+     * Normaliza a palavra usada como chave de cache e nas consultas às APIs.
+     */
+    public static String normalizeWord(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
     }
 
     public WordDetailsDTO getWordDetails(String word) {
-        log.info("🔍 Buscando detalhes para palavra: {}", word);
-        try {
-            WordDetailsDTO wordDetails = fetchWordDefinitions(word);
-            try {
-                String translation = fetchTranslation(word);
-                wordDetails = new WordDetailsDTO(
-                        wordDetails.word(),
-                        wordDetails.phonetic(),
-                        wordDetails.meanings(),
-                        translation
-                );
-            } catch (Exception e) {
-                log.warn("⚠️ Não foi possível obter tradução para '{}': {}", word, e.getMessage());
+        String key = normalizeWord(word);
+        WordDetailsDTO wordDetails = resolveWordDetails(word, key);
+        lexiconService.recordLookup(key);
+        return wordDetails;
+    }
+
+    /**
+     * Versão assíncrona de {@link #getWordDetails(String)}: valores que podem ser servidos do cache
+     * voltam num future já completo; os demais são resolvidos no semanticExecutor (virtual threads),
+     * sem ocupar a thread do servlet enquanto as APIs externas respondem.
+     */
+    public CompletableFuture<WordDetailsDTO> getWordDetailsAsync(String word) {
+        String key = normalizeWord(word);
+        WordDetailsDTO cached = wordDetailsCache.getIfServable(key, wordDetailsLoader(word));
+        if (cached != null) {
+            lexiconService.recordLookup(key);
+            return CompletableFuture.completedFuture(cached);
+        }
+        return CompletableFuture.supplyAsync(() -> getWordDetails(word), semanticExecutor);
+    }
+
+    // Valores no cache são servidos na hora; depois do TTL suave são atualizados em segundo plano,
+    // e depois do TTL rígido uma falha na recarga ainda devolve o valor antigo (ver RefreshingCache)
+    private WordDetailsDTO resolveWordDetails(String word, String key) {
+        return wordDetailsCache.get(key, wordDetailsLoader(word));
+    }
+
+    private Function<String, WordDetailsDTO> wordDetailsLoader(String word) {
+        return key -> {
+            if (negativeLookupCache.isKnownMissing(key)) {
+                log.debug("🚫 Palavra '{}' já conhecida como inexistente", key);
+                throw new WordNotFoundException("Palavra '" + word + "' não encontrada no dicionário", false);
             }
-            log.info("✅ Detalhes encontrados para palavra: {}", word);
-            return wordDetails;
-        } catch (Exception e) {
-            log.error("❌ Erro ao buscar palavra '{}': {}", word, e.getMessage());
-            throw new WordNotFoundException("Palavra '" + word + "' não encontrada no dicionário");
+            return wordDetailsFlights.execute(key, () -> {
+                // Outra chamada pode ter concluído a busca entre a consulta ao cache e este ponto
+                WordDetailsDTO resolved = wordDetailsCache.getIfFresh(key);
+                if (resolved != null) {
+                    return resolved;
+                }
+                return loadWordDetails(word, key);
+            });
+        };
+    }
+
+    // Definições e tradução de uma busca em andamento, cada uma no seu future: o streaming envia cada
+    // seção quando ela chega, e os demais esperam as duas juntas
+    private record PendingWordDetails(CompletableFuture<WordDetailsDTO> definitions, CompletableFuture<String> translation) {
+        CompletableFuture<WordDetailsDTO> details() {
+            return definitions.thenCombine(translation, (wordDetails, translation) -> new WordDetailsDTO(
+                    wordDetails.word(),
+                    wordDetails.phonetic(),
+                    wordDetails.meanings(),
+                    translation
+            ));
         }
     }
 
+    // Busca em andamento da palavra, iniciada aqui se ainda não houver: quem chega durante a busca
+    // (o líder do single-flight ou o streaming) acompanha os mesmos futures
+    private PendingWordDetails pendingWordDetails(String word, String key) {
+        PendingWordDetails pending = pendingWordDetails.computeIfAbsent(key, k -> startWordDetails(word));
+        pending.details().whenComplete((wordDetails, error) -> pendingWordDetails.remove(key, pending));
+        return pending;
+    }
+
+    // Definições e tradução são buscadas em paralelo, cada uma com seu próprio timeout. A busca é
+    // compartilhada, então não herda o prazo de quem a iniciou: cada um espera só o que resta do seu.
+    // A tradução é opcional: se não chegar a tempo ou falhar, os detalhes saem sem ela.
+    private PendingWordDetails startWordDetails(String word) {
+        try (Deadline.Scope detached = Deadline.attach(null)) {
+            CompletableFuture<String> translationFuture = CompletableFuture
+                    .supplyAsync(() -> fetchTranslation(word), semanticExecutor)
+                    .completeOnTimeout(null, translationTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(error -> {
+                        log.debug("⚠️ Erro ao buscar a tradução de '{}': {}", word, error.toString());
+                        return null;
+                    });
+            CompletableFuture<WordDetailsDTO> definitionsFuture = CompletableFuture
+                    .supplyAsync(() -> fetchWordDefinitions(word), semanticExecutor)
+                    .orTimeout(definitionsTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(error -> {
+                        throw definitionsFailure(word, error);
+                    });
+            return new PendingWordDetails(definitionsFuture, translationFuture);
+        }
+    }
+
+    // Dicionário fora do ar ou lento não significa que a palavra não existe (nem entra no cache negativo)
+    private RuntimeException definitionsFailure(String word, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof UpstreamUnavailableException || cause instanceof WordNotFoundException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof TimeoutException) {
+            log.error("⏱️ Dicionário sem resposta para '{}' em {}", word, definitionsTimeout);
+            return new UpstreamUnavailableException("Dicionário sem resposta em " + definitionsTimeout.toMillis() + " ms", cause);
+        }
+        log.error("❌ Erro ao buscar palavra '{}': {}", word, cause.toString());
+        return new WordNotFoundException("Palavra '" + word + "' não encontrada no dicionário");
+    }
+
+    private WordDetailsDTO loadWordDetails(String word, String key) {
+        log.info("🔍 Buscando detalhes para palavra: {}", word);
+        WordDetailsDTO wordDetails = Deadline.await(pendingWordDetails(word, key).details());
+        if (wordDetails.translation() == null) {
+            log.warn("⚠️ Tradução indisponível para '{}', retornando apenas as definições", word);
+        }
+        log.info("✅ Detalhes encontrados para palavra: {}", word);
+        return wordDetails;
+    }
+
     public NestedWordDetailsDTO getWordDetailsWithNesting(String word) {
         log.info("🔍 Buscando detalhes com aninhamento para palavra: {}", word);
 
@@ -86,6 +286,8 @@ public class SemanticService {
                 log.info("ℹ️ Nenhum sinônimo encontrado para aninhamento");
             }
             return new NestedWordDetailsDTO(mainWordDetails, nestedSynonymDetails);
+        } catch (DeadlineExceededException | UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❌ Erro ao buscar palavra com aninhamento '{}': {}", word, e.getMessage());
             throw new WordNotFoundException("Palavra '" + word + "' não encontrada no dicionário");
@@ -103,77 +305,79 @@ public class SemanticService {
     }
 
     private WordDetailsDTO fetchWordDefinitions(String word) {
-        String url = dictionaryApiUrl + "/" + word.toLowerCase().trim();
+        // O dicionário local (quando importado) é consultado antes da API remota
+        Optional<WordDetailsDTO> localDetails = localDictionaryStore.find(normalizeWord(word));
+        if (localDetails.isPresent()) {
+            log.debug("📚 Palavra '{}' encontrada no dicionário local", word);
+            return localDetails.get();
+        }
+        return upstreamGuard.call(UpstreamGuard.Upstream.DICTIONARY, normalizeWord(word),
+                () -> requestWordDefinitions(word), null);
+    }
+
+    private WordDetailsDTO requestWordDefinitions(String word) {
+        String url = dictionaryApiUrl + "/" + normalizeWord(word);
         log.debug("🌐 Consultando API: {}", url);
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode jsonArray = objectMapper.readTree(response.getBody());
-                if (jsonArray.isArray() && jsonArray.size() > 0) {
-                    JsonNode firstResult = jsonArray.get(0);
-                    return parseWordDetails(firstResult, word);
-                }
+            // A resposta é lida direto do stream; só a primeira entrada vira DTO
+            WordDetailsDTO wordDetails = restTemplate.execute(url, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> dictionaryResponseParser.parseFirstEntry(response.getBody(), word));
+            if (wordDetails != null) {
+                return wordDetails;
             }
+            negativeLookupCache.recordMissing(normalizeWord(word));
             throw new WordNotFoundException("Nenhum resultado encontrado para: " + word);
-        } catch (JsonProcessingException e) {
-            log.error("❌ Erro ao processar JSON da API do dicionário: {}", e.getMessage());
+        } catch (ResourceAccessException e) {
+            log.error("❌ Erro ao ler a resposta da API do dicionário: {}", e.getMessage());
             throw new RuntimeException("Erro ao processar resposta da API: " + e.getMessage());
         } catch (HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
                 log.warn("🔍 Palavra '{}' não encontrada na API do dicionário", word);
+                negativeLookupCache.recordMissing(normalizeWord(word));
                 throw new WordNotFoundException("Palavra '" + word + "' não encontrada no dicionário");
             }
             throw new RuntimeException("Erro na consulta à API do dicionário: " + e.getMessage());
         }
     }
 
-    private WordDetailsDTO parseWordDetails(JsonNode wordJson, String originalWord) {
-        String word = wordJson.path("word").asText(originalWord);
-        String phonetic = null;
-        JsonNode phoneticsArray = wordJson.path("phonetics");
-        if (phoneticsArray.isArray() && phoneticsArray.size() > 0) {
-            for (JsonNode phoneticNode : phoneticsArray) {
-                String phoneticText = phoneticNode.path("text").asText();
-                if (!phoneticText.isEmpty()) {
-                    phonetic = phoneticText;
-                    break;
-                }
-            }
+    private String fetchTranslation(String word) {
+        String key = normalizeWord(word);
+        Optional<String> remembered = translationMemory.find(key, translationLangPair);
+        if (remembered.isPresent()) {
+            log.debug("⚡ Tradução de '{}' servida da memória de traduções", key);
+            return remembered.get();
         }
-        List<MeaningDTO> meanings = new ArrayList<>();
-        JsonNode meaningsArray = wordJson.path("meanings");
-        if (meaningsArray.isArray()) {
-            for (JsonNode meaningJson : meaningsArray) {
-                String partOfSpeech = meaningJson.path("partOfSpeech").asText();
-                List<DefinitionDTO> definitions = new ArrayList<>();
-                JsonNode definitionsArray = meaningJson.path("definitions");
-                if (definitionsArray.isArray()) {
-                    for (JsonNode defJson : definitionsArray) {
-                        String definition = defJson.path("definition").asText();
-                        String example = defJson.path("example").asText(null);
-                        definitions.add(new DefinitionDTO(definition, example));
-                    }
-                }
-                List<String> synonyms = new ArrayList<>();
-                JsonNode synonymsArray = meaningJson.path("synonyms");
-                if (synonymsArray.isArray()) {
-                    for (JsonNode synonym : synonymsArray) {
-                        synonyms.add(synonym.asText());
-                    }
-                }
-                meanings.add(new MeaningDTO(partOfSpeech, definitions, synonyms));
+        return translationFlights.execute(key, () -> {
+            String translation = upstreamGuard.call(UpstreamGuard.Upstream.TRANSLATION, key,
+                    () -> requestTranslation(key), () -> null);
+            if (translation != null) {
+                translationMemory.remember(key, translationLangPair, translation);
             }
-        }
-        return new WordDetailsDTO(word, phonetic, meanings, null);
+            return translation;
+        });
     }
 
-    private String fetchTranslation(String word) {
-        String url = translationApiUrl + "?q=" + word + "&langpair=en|pt";
+    private String requestTranslation(String word) {
+        // Os parâmetros são codificados (espaços, '&', '|'), então o mesmo texto gera sempre a mesma URL
+        URI url = UriComponentsBuilder.fromUriString(translationApiUrl)
+                .queryParam("q", "{q}")
+                .queryParam("langpair", "{langpair}")
+                .encode()
+                .buildAndExpand(word, translationLangPair)
+                .toUri();
         log.debug("🌍 Buscando tradução: {}", url);
         try {
             ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 JsonNode jsonResponse = objectMapper.readTree(response.getBody());
+                // Avisos de cota e erros do MyMemory chegam com HTTP 200 e o aviso em translatedText:
+                // só responseStatus 200 é tradução (o resto não pode ir para a memória de traduções)
+                int status = jsonResponse.path("responseStatus").asInt();
+                if (status != 200 || jsonResponse.path("quotaFinished").asBoolean(false)) {
+                    throw new RuntimeException("Tradução recusada pelo MyMemory (status " + status + "): "
+                            + jsonResponse.path("responseDetails").asText());
+                }
                 JsonNode responseData = jsonResponse.path("responseData");
                 String translatedText = responseData.path("translatedText").asText();
                 if (!translatedText.isEmpty()) {
@@ -183,40 +387,135 @@ public class SemanticService {
             }
             log.warn("⚠️ Nenhuma tradução encontrada para: {}", word);
             return null;
-        } catch (Exception e) {
-            log.error("❌ Erro ao buscar tradução para '{}': {}", word, e.getMessage());
-            return null;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao processar resposta da tradução: " + e.getMessage(), e);
         }
     }
 
 
     // NOVA FUNCIONALIDADE: Rede Semântica de Palavras
+    // A rede calculada fica no SemanticNetworkStore; as próximas buscas são servidas de lá, e ela é
+    // recalculada em segundo plano quando passa de semantic.network.max-age ou quando os detalhes
+    // da palavra ou a definição da Wikidata em cache mudaram desde o cálculo.
     public com.backend.controller.SemanticController.SemanticNetworkDTO getSemanticNetwork(String word) {
-        log.info("🕸️ Construindo rede semântica para palavra: {}", word);
+        String key = normalizeWord(word);
 
         try {
-            // 1. Buscar detalhes básicos da palavra
-            WordDetailsDTO wordDetails = getWordDetails(word);
+            Optional<SemanticNetworkStore.StoredNetwork> stored = findStoredNetwork(key);
+            if (stored.isPresent()) {
+                if (isOutdated(key, stored.get())) {
+                    scheduleNetworkRebuild(word, key);
+                }
+                lexiconService.recordLookup(key);
+                return stored.get().network();
+            }
 
-            // 2. Construir dados da rede semântica
-            return buildSemanticNetwork(word, wordDetails);
+            log.info("🕸️ Construindo rede semântica para palavra: {}", word);
+            return computeAndStoreNetwork(word, key);
 
+        } catch (DeadlineExceededException | UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❌ Erro ao construir rede semântica para '{}': {}", word, e.getMessage());
             throw new WordNotFoundException("Não foi possível construir rede semântica para: " + word);
         }
     }
 
+    private Optional<SemanticNetworkStore.StoredNetwork> findStoredNetwork(String key) {
+        try {
+            return networkStore.find(key);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Erro ao ler a rede semântica guardada de '{}': {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private com.backend.controller.SemanticController.SemanticNetworkDTO computeAndStoreNetwork(String word, String key) {
+        // 1. Buscar detalhes básicos da palavra
+        WordDetailsDTO wordDetails = getWordDetails(word);
+
+        // 2. Construir dados da rede semântica
+        com.backend.controller.SemanticController.SemanticNetworkDTO network = buildSemanticNetwork(word, wordDetails);
+
+        storeNetwork(key, network, wordDetails);
+        return network;
+    }
+
+    private void storeNetwork(String key, com.backend.controller.SemanticController.SemanticNetworkDTO network, WordDetailsDTO wordDetails) {
+        try {
+            networkStore.save(key, new SemanticNetworkStore.StoredNetwork(network, System.currentTimeMillis(),
+                    representationETags.of(wordDetails), hashOrNull(wikidataDefinitionService.cachedDefinition(key))));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Erro ao guardar a rede semântica de '{}': {}", key, e.getMessage());
+        }
+    }
+
+    // Compara só com o que já está em cache: verificar se a rede mudou não dispara chamadas externas
+    private boolean isOutdated(String key, SemanticNetworkStore.StoredNetwork stored) {
+        if (System.currentTimeMillis() - stored.computedAt() > networkMaxAge.toMillis()) {
+            return true;
+        }
+        WordDetailsDTO cachedDetails = wordDetailsCache.getIfPresent(key);
+        if (cachedDetails != null && !representationETags.of(cachedDetails).equals(stored.detailsHash())) {
+            return true;
+        }
+        String cachedDefinition = wikidataDefinitionService.cachedDefinition(key);
+        return cachedDefinition != null && !representationETags.of(cachedDefinition).equals(stored.definitionHash());
+    }
+
+    private void scheduleNetworkRebuild(String word, String key) {
+        if (!networkRebuilds.add(key)) {
+            return;
+        }
+        // A atualização é trabalho de fundo: não herda o prazo da requisição que a disparou
+        try (Deadline.Scope detached = Deadline.attach(null)) {
+            semanticExecutor.execute(() -> {
+                try {
+                    computeAndStoreNetwork(word, key);
+                    log.debug("🔄 Rede semântica de '{}' atualizada", key);
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ Falha ao atualizar a rede semântica de '{}': {}", key, e.getMessage());
+                } finally {
+                    networkRebuilds.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            networkRebuilds.remove(key);
+        }
+    }
+
+    private String hashOrNull(String value) {
+        return value == null ? null : representationETags.of(value);
+    }
+
     private com.backend.controller.SemanticController.SemanticNetworkDTO buildSemanticNetwork(String word, WordDetailsDTO wordDetails) {
 
         // <<< 2. SUBSTITUIÇÃO DA ETYMOLOGIA SIMULADA PELA BUSCA REAL NA DBPEDIA >>>
         // A linha antiga era: String etymology = generateEtymology(word);
         String etymology = fetchWikidataDefinition(word);
 
-        String wordFamily = generateWordFamily(word);
+        return buildSemanticNetwork(word, wordDetails, etymology);
+    }
 
+    private com.backend.controller.SemanticController.SemanticNetworkDTO buildSemanticNetwork(String word, WordDetailsDTO wordDetails, String etymology) {
+        com.backend.controller.SemanticController.NetworkRelationsSection relations = buildRelationsSection(word);
+
+        return new com.backend.controller.SemanticController.SemanticNetworkDTO(
+                word,
+                etymology,
+                relations.wordFamily(),
+                buildNetworkSynonyms(word, wordDetails),
+                relations.antonyms(),
+                relations.relatedWords(),
+                relations.cognates(),
+                relations.origin(),
+                relations.connections()
+        );
+    }
+
+    // Sinônimos do dicionário e do índice de relações
+    private List<com.backend.controller.SemanticController.RelatedWord> buildNetworkSynonyms(String word, WordDetailsDTO wordDetails) {
         List<com.backend.controller.SemanticController.RelatedWord> synonyms = new ArrayList<>();
-        List<com.backend.controller.SemanticController.RelatedWord> relatedWords = new ArrayList<>();
 
         if (wordDetails.meanings() != null) {
             for (MeaningDTO meaning : wordDetails.meanings()) {
@@ -229,6 +528,15 @@ public class SemanticService {
                 }
             }
         }
+        addIndexedSynonyms(word, synonyms);
+        return withVectorSimilarity(word, synonyms);
+    }
+
+    // Partes da rede que vêm só de dados locais (índice de relações, vetores e dados fixos)
+    private com.backend.controller.SemanticController.NetworkRelationsSection buildRelationsSection(String word) {
+        String wordFamily = generateWordFamily(word);
+
+        List<com.backend.controller.SemanticController.RelatedWord> relatedWords = new ArrayList<>();
 
         List<com.backend.controller.SemanticController.RelatedWord> antonyms = generateAntonyms(word);
         List<String> cognates = generateCognates(word);
@@ -236,13 +544,11 @@ public class SemanticService {
         List<com.backend.controller.SemanticController.LanguageConnection> connections = generateLanguageConnections(word);
         relatedWords.addAll(generateSemanticRelations(word));
 
-        return new com.backend.controller.SemanticController.SemanticNetworkDTO(
+        return new com.backend.controller.SemanticController.NetworkRelationsSection(
                 word,
-                etymology,
                 wordFamily,
-                synonyms,
-                antonyms,
-                relatedWords,
+                withVectorSimilarity(word, antonyms),
+                withVectorSimilarity(word, relatedWords),
                 cognates,
                 origin,
                 connections
@@ -257,6 +563,12 @@ public class SemanticService {
      * @return O resumo do termo, ou uma mensagem padrão caso não seja encontrado.
      */
     private String fetchDbpediaAbstract(String term) {
+        return upstreamGuard.call(UpstreamGuard.Upstream.DBPEDIA, normalizeWord(term),
+                () -> queryDbpediaAbstract(term),
+                () -> String.format("Não foi possível consultar a base de dados interligados (DBpedia) para o termo '%s' devido a um erro de conexão ou de consulta.", term));
+    }
+
+    private String queryDbpediaAbstract(String term) {
         log.info("🌐 [DBpedia] Buscando abstract para o termo: {}", term);
         String formattedTerm = term.substring(0, 1).toUpperCase() + term.substring(1);
         String sparqlEndpoint = "https://dbpedia.org/sparql";
@@ -273,9 +585,10 @@ public class SemanticService {
 
         // O try-with-resources garante que a conexão será fechada
         try (QueryExecution qExec = QueryExecutionHTTP.create()
+                .httpClient(httpClient)
                 .endpoint(sparqlEndpoint)
                 .query(sparqlQuery)
-                .timeout(5000) // Timeout de 5 segundos
+                .timeout(Deadline.limit(DBPEDIA_TIMEOUT).toMillis()) // Timeout de 5 segundos (ou o que resta do prazo)
                 .build()) {
 
             ResultSet results = qExec.execSelect();
@@ -290,9 +603,6 @@ public class SemanticService {
                 log.warn("⚠️ [DBpedia] Nenhum abstract em inglês encontrado para: {}", term);
                 return String.format("Nenhuma descrição detalhada (abstract) foi encontrada na DBpedia para '%s'. Esta pode ser uma palavra comum ou um termo técnico sem uma entrada enciclopédica própria.", term);
             }
-        } catch (Exception e) {
-            log.error("❌ [DBpedia] Erro ao consultar o SPARQL endpoint para '{}'. Causa do erro: ", term, e);
-            return String.format("Não foi possível consultar a base de dados interligados (DBpedia) para o termo '%s' devido a um erro de conexão ou de consulta.", term);
         }
     }
 
@@ -303,84 +613,65 @@ public class SemanticService {
      * @return A primeira definição encontrada, ou uma mensagem padrão.
      */
     private String fetchWikidataDefinition(String term) {
-        log.info("🌐 [Wikidata] Buscando definição para o termo: {}", term);
-        String sparqlEndpoint = "https://query.wikidata.org/sparql";
-
-        // Usamos LCASE para tornar a busca case-insensitive
-        String sparqlQuery = """
-        PREFIX dct: <http://purl.org/dc/terms/>
-        PREFIX wikibase: <http://wikiba.se/ontology#>
-        PREFIX ontolex: <http://www.w3.org/ns/lemon/ontolex#>
-        PREFIX skos: <http://www.w3.org/2004/02/skos/core#>
-        PREFIX wd: <http://www.wikidata.org/entity/>
-
-        SELECT ?definition WHERE {
-          ?lexeme dct:language wd:Q1860;
-                  wikibase:lemma ?lemma;
-                  ontolex:sense ?sense.
-          ?sense skos:definition ?definition.
-          FILTER(LANG(?definition) = "en")
-          FILTER(LCASE(STR(?lemma)) = LCASE("%s"))
-        }
-        LIMIT 1
-        """.formatted(term);
-
-        try (QueryExecution qExec = QueryExecutionHTTP.create()
-                .endpoint(sparqlEndpoint)
-                .query(sparqlQuery)
-                .httpHeader("Accept", "application/sparql-results+json")
-                .httpHeader("User-Agent", "EnglishForAllTimeApp/1.0 (https://github.com/user/project)")
-                .timeout(8000) // Aumentando um pouco o timeout para a Wikidata
-                .build()) {
-
-            ResultSet results = qExec.execSelect();
-
-            if (results.hasNext()) {
-                QuerySolution soln = results.nextSolution();
-                Literal definitionLiteral = soln.getLiteral("definition");
-                String definitionText = definitionLiteral.getString();
-                log.info("✅ [Wikidata] Definição encontrada para: {}", term);
-                return "Definição da Wikidata: " + definitionText; // Adicionando um prefixo para clareza
-            } else {
-                log.warn("⚠️ [Wikidata] Nenhuma definição encontrada para: {}", term);
-                return String.format("Nenhuma definição foi encontrada na base de dados lexical da Wikidata para '%s'.", term);
-            }
-        } catch (Exception e) {
-            log.error("❌ [Wikidata] Erro ao consultar o SPARQL endpoint para '{}'. Causa do erro: ", term, e);
-            return String.format("Não foi possível consultar a base de dados interligados (Wikidata) para o termo '%s'.", term);
-        }
+        return wikidataDefinitionService.definitionOf(term);
     }
 
     // <<< 4. MÉTODO generateEtymology FOI REMOVIDO >>>
     // Ele não é mais necessário, pois foi substituído pela busca real na DBpedia.
 
     // ... (O restante dos métodos `generate...` e `generateRdfForWord` permanecem iguais) ...
+    // Família de palavras, antônimos e relações semânticas vêm do índice de relações lexicais
     private String generateWordFamily(String word) {
-        switch (word.toLowerCase()) {
-            case "happy": return "happiness, happily, unhappy, unhappiness";
-            case "computer": return "compute, computation, computational, computing";
-            case "telephone": return "telephonic, telephony, telephonist";
-            case "democracy": return "democratic, democratize, democratization";
-            default: return "Família de palavras relacionadas morfologicamente";
+        List<Edge> derivations = lexicalRelationIndex.neighbours(word, EnumSet.of(Relation.DERIVATION), maxRelationsPerType);
+        if (derivations.isEmpty()) {
+            return "Família de palavras relacionadas morfologicamente";
         }
+        return derivations.stream().map(Edge::word).collect(Collectors.joining(", "));
     }
     private List<com.backend.controller.SemanticController.RelatedWord> generateAntonyms(String word) {
-        List<com.backend.controller.SemanticController.RelatedWord> antonyms = new ArrayList<>();
-        switch (word.toLowerCase()) {
-            case "happy":
-                antonyms.add(new com.backend.controller.SemanticController.RelatedWord("sad", "antonym", 0.95));
-                antonyms.add(new com.backend.controller.SemanticController.RelatedWord("unhappy", "antonym", 0.90));
-                break;
-            case "big":
-                antonyms.add(new com.backend.controller.SemanticController.RelatedWord("small", "antonym", 0.95));
-                antonyms.add(new com.backend.controller.SemanticController.RelatedWord("little", "antonym", 0.90));
-                break;
-            case "hot":
-                antonyms.add(new com.backend.controller.SemanticController.RelatedWord("cold", "antonym", 0.95));
-                antonyms.add(new com.backend.controller.SemanticController.RelatedWord("cool", "antonym", 0.85));
-                break;
+        return toRelatedWords(lexicalRelationIndex.neighbours(word, EnumSet.of(Relation.ANTONYM), maxRelationsPerType));
+    }
+    // Sinônimos do índice que o dicionário não trouxe entram depois dos do dicionário
+    private void addIndexedSynonyms(String word, List<com.backend.controller.SemanticController.RelatedWord> synonyms) {
+        Set<String> present = new HashSet<>();
+        for (com.backend.controller.SemanticController.RelatedWord synonym : synonyms) {
+            present.add(normalizeWord(synonym.word()));
+        }
+        for (Edge edge : lexicalRelationIndex.neighbours(word, EnumSet.of(Relation.SYNONYM), maxRelationsPerType)) {
+            if (present.add(edge.word())) {
+                synonyms.add(toRelatedWord(edge));
+            }
+        }
+    }
+    private static List<com.backend.controller.SemanticController.RelatedWord> toRelatedWords(List<Edge> edges) {
+        List<com.backend.controller.SemanticController.RelatedWord> relatedWords = new ArrayList<>(edges.size());
+        for (Edge edge : edges) {
+            relatedWords.add(toRelatedWord(edge));
+        }
+        return relatedWords;
+    }
+    // Com os vetores de palavras carregados, a similaridade passa a ser o cosseno entre as duas palavras;
+    // palavras sem vetor mantêm o valor do dicionário ou do arquivo de relações
+    private List<com.backend.controller.SemanticController.RelatedWord> withVectorSimilarity(
+            String word, List<com.backend.controller.SemanticController.RelatedWord> relatedWords) {
+        if (!wordVectorIndex.isAvailable()) {
+            return relatedWords;
+        }
+        List<com.backend.controller.SemanticController.RelatedWord> scored = new ArrayList<>(relatedWords.size());
+        for (com.backend.controller.SemanticController.RelatedWord related : relatedWords) {
+            Float similarity = wordVectorIndex.similarity(word, related.word());
+            scored.add(similarity == null ? related : new com.backend.controller.SemanticController.RelatedWord(
+                    related.word(), related.relation(), roundSimilarity(similarity)));
         }
-        return antonyms;
+        return scored;
+    }
+    private static double roundSimilarity(float similarity) {
+        return Math.round(similarity * 100) / 100.0;
+    }
+    // Pesos float do arquivo arredondados para duas casas (0.95f não vira 0.949999988079071)
+    private static com.backend.controller.SemanticController.RelatedWord toRelatedWord(Edge edge) {
+        return new com.backend.controller.SemanticController.RelatedWord(
+                edge.word(), edge.relation().id(), roundSimilarity(edge.weight()));
     }
     private List<String> generateCognates(String word) {
         List<String> cognates = new ArrayList<>();
@@ -428,21 +719,10 @@ public class SemanticService {
         return connections;
     }
     private List<com.backend.controller.SemanticController.RelatedWord> generateSemanticRelations(String word) {
-        List<com.backend.controller.SemanticController.RelatedWord> relations = new ArrayList<>();
-        switch (word.toLowerCase()) {
-            case "computer":
-                relations.add(new com.backend.controller.SemanticController.RelatedWord("technology", "domain", 0.85));
-                relations.add(new com.backend.controller.SemanticController.RelatedWord("software", "related", 0.80));
-                relations.add(new com.backend.controller.SemanticController.RelatedWord("digital", "related", 0.75));
-                break;
-            case "happy":
-                relations.add(new com.backend.controller.SemanticController.RelatedWord("emotion", "domain", 0.90));
-                relations.add(new com.backend.controller.SemanticController.RelatedWord("joy", "related", 0.85));
-                relations.add(new com.backend.controller.SemanticController.RelatedWord("positive", "related", 0.80));
-                break;
-        }
-        return relations;
+        return toRelatedWords(lexicalRelationIndex.neighbours(word,
+                EnumSet.of(Relation.HYPERNYM, Relation.DOMAIN, Relation.RELATED), maxRelationsPerType));
     }
+
     public String generateRdfForWord(String word) throws WordNotFoundException {
         WordDetailsDTO details = getWordDetails(word); // Reutiliza o método existente
         String baseUri = "http://englishforalltime.com/vocabulary/";
@@ -492,7 +772,168 @@ public class SemanticService {
         return fetchTranslation(word);
     }
 
+    public CompletableFuture<String> getTranslationAsync(String word) {
+        return CompletableFuture.supplyAsync(() -> getTranslation(word), semanticExecutor);
+    }
+
     public NestedWordDetailsDTO getNestedWordDetails(String word) {
         return getWordDetailsWithNesting(word);
     }
-}
\ No newline at end of file
+
+    public CompletableFuture<NestedWordDetailsDTO> getNestedWordDetailsAsync(String word) {
+        return CompletableFuture.supplyAsync(() -> getNestedWordDetails(word), semanticExecutor);
+    }
+
+    public CompletableFuture<com.backend.controller.SemanticController.SemanticNetworkDTO> getSemanticNetworkAsync(String word) {
+        return CompletableFuture.supplyAsync(() -> getSemanticNetwork(word), semanticExecutor);
+    }
+
+    /**
+     * Rede semântica em seções, para a resposta em Server-Sent Events. Cada seção é entregue a
+     * onSection (nome do evento, conteúdo) assim que sua fonte responde, sem esperar as demais:
+     * "relations" (dados locais) na hora, "definitions" (definições e sinônimos) quando o dicionário
+     * responde, "translation" quando o tradutor responde, "etymology" quando a Wikidata responde e,
+     * por fim, "network" com a rede completa, que também é guardada. Uma rede já guardada sai direto
+     * como "network". Definições e tradução vêm da mesma busca compartilhada do getWordDetails.
+     * O future falha com WordNotFoundException se a palavra não existir no dicionário.
+     */
+    public CompletableFuture<com.backend.controller.SemanticController.SemanticNetworkDTO> streamSemanticNetwork(
+            String word, BiConsumer<String, Object> onSection) {
+        String key = normalizeWord(word);
+        Optional<SemanticNetworkStore.StoredNetwork> stored = findStoredNetwork(key);
+        if (stored.isPresent()) {
+            if (isOutdated(key, stored.get())) {
+                scheduleNetworkRebuild(word, key);
+            }
+            lexiconService.recordLookup(key);
+            onSection.accept("network", stored.get().network());
+            return CompletableFuture.completedFuture(stored.get().network());
+        }
+
+        // Palavra já conhecida como inexistente: nem as seções locais nem a Wikidata são consultadas
+        if (negativeLookupCache.isKnownMissing(key)) {
+            log.debug("🚫 Palavra '{}' já conhecida como inexistente", key);
+            return CompletableFuture.failedFuture(
+                    new WordNotFoundException("Palavra '" + word + "' não encontrada no dicionário", false));
+        }
+
+        log.info("🕸️ Construindo rede semântica em seções para palavra: {}", word);
+        onSection.accept("relations", buildRelationsSection(word));
+
+        CompletableFuture<String> etymologyFuture = CompletableFuture
+                .supplyAsync(() -> fetchWikidataDefinition(word), semanticExecutor)
+                .thenApply(etymology -> {
+                    onSection.accept("etymology", new com.backend.controller.SemanticController.NetworkEtymologySection(word, etymology));
+                    return etymology;
+                });
+
+        // Detalhes em cache (dentro do TTL rígido) saem na hora; senão a seção de definições sai quando o
+        // dicionário responde e a de tradução quando o tradutor responde, na mesma busca do getWordDetails
+        CompletableFuture<WordDetailsDTO> detailsFuture;
+        WordDetailsDTO cached = wordDetailsCache.getIfServable(key, wordDetailsLoader(word));
+        if (cached != null) {
+            sendDefinitions(word, cached, onSection);
+            onSection.accept("translation", new com.backend.controller.SemanticController.TranslationResponse(word, cached.translation()));
+            detailsFuture = CompletableFuture.completedFuture(cached);
+        } else {
+            PendingWordDetails pending = pendingWordDetails(word, key);
+            pending.definitions().thenAccept(definitions -> sendDefinitions(word, definitions, onSection));
+            pending.translation().thenAccept(translation ->
+                    onSection.accept("translation", new com.backend.controller.SemanticController.TranslationResponse(word, translation)));
+            detailsFuture = pending.details()
+                    .thenApply(wordDetails -> {
+                        wordDetailsCache.put(key, wordDetails);
+                        return wordDetails;
+                    })
+                    .exceptionally(error -> {
+                        // Como no RefreshingCache: com a recarga falhando, o valor antigo ainda é servido na carência
+                        WordDetailsDTO stale = wordDetailsCache.getIfPresent(key);
+                        if (stale == null) {
+                            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                        }
+                        log.warn("♻️ Falha ao recarregar '{}' ({}), servindo os detalhes antigos", key, error.getMessage());
+                        sendDefinitions(word, stale, onSection);
+                        return stale;
+                    });
+        }
+        return detailsFuture.thenCombine(etymologyFuture, (wordDetails, etymology) -> {
+            lexiconService.recordLookup(key);
+            com.backend.controller.SemanticController.SemanticNetworkDTO network = buildSemanticNetwork(word, wordDetails, etymology);
+            storeNetwork(key, network, wordDetails);
+            onSection.accept("network", network);
+            return network;
+        });
+    }
+
+    private void sendDefinitions(String word, WordDetailsDTO wordDetails, BiConsumer<String, Object> onSection) {
+        onSection.accept("definitions", new com.backend.controller.SemanticController.NetworkDefinitionsSection(
+                word, wordDetails.phonetic(), wordDetails.meanings(), buildNetworkSynonyms(word, wordDetails)));
+    }
+
+    public boolean isWordVectorIndexAvailable() {
+        return wordVectorIndex.isAvailable();
+    }
+
+    /**
+     * As k palavras mais parecidas com a palavra pelos vetores de palavras (cosseno), da mais para a
+     * menos parecida; k fica entre 1 e semantic.vectors.max-k.
+     */
+    public List<com.backend.controller.SemanticController.RelatedWord> getSimilarWords(String word, int k) throws WordNotFoundException {
+        int limit = Math.max(1, Math.min(k, maxSimilarWords));
+        List<WordVectorIndex.Neighbour> neighbours = wordVectorIndex.mostSimilar(word, limit);
+        if (neighbours.isEmpty()) {
+            throw new WordNotFoundException("Palavra sem vetor: " + word);
+        }
+        List<com.backend.controller.SemanticController.RelatedWord> similar = new ArrayList<>(neighbours.size());
+        for (WordVectorIndex.Neighbour neighbour : neighbours) {
+            similar.add(new com.backend.controller.SemanticController.RelatedWord(
+                    neighbour.word(), "similar", roundSimilarity(neighbour.similarity())));
+        }
+        return similar;
+    }
+
+    public CompletableFuture<List<com.backend.controller.SemanticController.RelatedWord>> getSimilarWordsAsync(String word, int k) {
+        return CompletableFuture.supplyAsync(() -> getSimilarWords(word, k), semanticExecutor);
+    }
+
+    /**
+     * Redes semânticas de várias palavras (ex.: a lista de palavras de uma lição), por palavra.
+     * As definições da Wikidata das redes ainda não guardadas são buscadas antes, em lotes;
+     * palavras não encontradas ficam de fora do resultado.
+     */
+    public Map<String, com.backend.controller.SemanticController.SemanticNetworkDTO> getSemanticNetworks(List<String> words) {
+        log.info("🕸️ Construindo redes semânticas para {} palavras", words.size());
+        List<String> notStored = words.stream().filter(word -> !networkStore.contains(normalizeWord(word))).toList();
+        if (!notStored.isEmpty()) {
+            wikidataDefinitionService.definitionsOf(notStored);
+        }
+
+        Semaphore permits = new Semaphore(batchConcurrency);
+        Map<String, CompletableFuture<com.backend.controller.SemanticController.SemanticNetworkDTO>> networks = new LinkedHashMap<>();
+        for (String word : words) {
+            networks.put(word, CompletableFuture.supplyAsync(() -> {
+                Deadline.acquire(permits);
+                try {
+                    return getSemanticNetwork(word);
+                } catch (WordNotFoundException e) {
+                    return null;
+                } finally {
+                    permits.release();
+                }
+            }, semanticExecutor));
+        }
+
+        Map<String, com.backend.controller.SemanticController.SemanticNetworkDTO> result = new LinkedHashMap<>();
+        networks.forEach((word, network) -> {
+            com.backend.controller.SemanticController.SemanticNetworkDTO resolved = Deadline.await(network);
+            if (resolved != null) {
+                result.put(word, resolved);
+            }
+        });
+        return result;
+    }
+
+    public CompletableFuture<Map<String, com.backend.controller.SemanticController.SemanticNetworkDTO>> getSemanticNetworksAsync(List<String> words) {
+        return CompletableFuture.supplyAsync(() -> getSemanticNetworks(words), semanticExecutor);
+    }
+}
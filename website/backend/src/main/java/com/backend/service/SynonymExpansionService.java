@@ -0,0 +1,206 @@
+package com.backend.service;
+
+import com.backend.Util.Deadline;
+import com.backend.dto.ExpandedSynonymDTO;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.SynonymExpansionDTO;
+import com.backend.dto.WordDetailsDTO;
+import com.backend.exception.WordNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Expansão da vizinhança de sinônimos de uma palavra, em largura: cada nível busca em paralelo
+ * (com concorrência limitada) os sinônimos das palavras resolvidas no nível anterior.
+ * Palavras já visitadas não são buscadas de novo, e a expansão inteira tem um prazo total;
+ * quando ele acaba, é retornado o que já foi resolvido.
+ */
+@Service
+@Slf4j
+public class SynonymExpansionService {
+
+    private final SemanticService semanticService;
+    private final ExecutorService semanticExecutor;
+
+    @Value("${semantic.expansion.max-depth:3}")
+    private int maxDepth;
+
+    @Value("${semantic.expansion.default-fan-out:5}")
+    private int defaultFanOut;
+
+    @Value("${semantic.expansion.max-fan-out:10}")
+    private int maxFanOut;
+
+    @Value("${semantic.expansion.max-words:200}")
+    private int maxWords;
+
+    @Value("${semantic.expansion.concurrency:8}")
+    private int concurrency;
+
+    @Value("${semantic.expansion.time-budget:5s}")
+    private Duration timeBudget;
+
+    public SynonymExpansionService(SemanticService semanticService, ExecutorService semanticExecutor) {
+        this.semanticService = semanticService;
+        this.semanticExecutor = semanticExecutor;
+    }
+
+    private record Node(String word, String parent, int depth, WordDetailsDTO details) {
+    }
+
+    /**
+     * @param depth  quantos níveis de sinônimos seguir (padrão 1, limitado a semantic.expansion.max-depth)
+     * @param fanOut quantos sinônimos seguir por palavra (limitado a semantic.expansion.max-fan-out)
+     * @throws WordNotFoundException se a própria palavra não for encontrada
+     */
+    public SynonymExpansionDTO expand(String word, Integer depth, Integer fanOut) {
+        int levels = clamp(depth == null ? 1 : depth, maxDepth);
+        int perWord = clamp(fanOut == null ? defaultFanOut : fanOut, maxFanOut);
+        // O orçamento da expansão nunca passa do que resta do prazo da requisição
+        long deadline = System.nanoTime() + Deadline.limit(timeBudget).toNanos();
+        log.info("🔗 [EXPANSÃO] Expandindo sinônimos de '{}' (profundidade {}, {} por palavra)", word, levels, perWord);
+
+        WordDetailsDTO mainWord = semanticService.getWordDetails(word);
+        Set<String> visited = new HashSet<>();
+        visited.add(SemanticService.normalizeWord(word));
+        List<ExpandedSynonymDTO> expanded = new ArrayList<>();
+        List<Node> frontier = List.of(new Node(mainWord.word(), null, 0, mainWord));
+        boolean complete = true;
+
+        for (int level = 1; level <= levels && !frontier.isEmpty(); level++) {
+            List<Node> candidates = new ArrayList<>();
+            for (Node node : frontier) {
+                int remaining = maxWords - expanded.size() - candidates.size();
+                if (remaining <= 0) {
+                    complete = false;
+                    break;
+                }
+                for (String synonym : synonymsOf(node.details(), Math.min(perWord, remaining), visited)) {
+                    candidates.add(new Node(synonym, node.word(), level, null));
+                }
+            }
+            LevelResult result = resolveLevel(candidates, deadline);
+            for (Node node : result.resolved()) {
+                expanded.add(new ExpandedSynonymDTO(node.word(), node.parent(), node.depth(), node.details()));
+            }
+            frontier = result.resolved();
+            if (!result.complete()) {
+                complete = false;
+                log.warn("⏱️ [EXPANSÃO] Prazo de {} esgotado no nível {} para '{}'", timeBudget, level, word);
+                break;
+            }
+        }
+        log.info("✅ [EXPANSÃO] {} sinônimos resolvidos para '{}'", expanded.size(), word);
+        return new SynonymExpansionDTO(mainWord, expanded, levels, perWord, complete);
+    }
+
+    public CompletableFuture<SynonymExpansionDTO> expandAsync(String word, Integer depth, Integer fanOut) {
+        return CompletableFuture.supplyAsync(() -> expand(word, depth, fanOut), semanticExecutor);
+    }
+
+    private record LevelResult(List<Node> resolved, boolean complete) {
+    }
+
+    // Busca o nível inteiro em paralelo; ao fim do prazo, fica só com o que já terminou
+    private LevelResult resolveLevel(List<Node> candidates, long deadline) {
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicBoolean expired = new AtomicBoolean(false);
+        List<CompletableFuture<Node>> lookups = new ArrayList<>(candidates.size());
+        for (Node candidate : candidates) {
+            lookups.add(CompletableFuture.supplyAsync(() -> resolve(candidate, permits, expired, deadline), semanticExecutor));
+        }
+        boolean complete = true;
+        try {
+            CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            complete = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete = false;
+        } catch (ExecutionException e) {
+            // resolve() não lança exceções; os erros de cada palavra já viram null
+        }
+        if (!complete) {
+            expired.set(true);
+        }
+        List<Node> resolved = new ArrayList<>();
+        for (CompletableFuture<Node> lookup : lookups) {
+            Node node = lookup.getNow(null);
+            if (node != null) {
+                resolved.add(node);
+            }
+        }
+        return new LevelResult(resolved, complete);
+    }
+
+    private Node resolve(Node candidate, Semaphore permits, AtomicBoolean expired, long deadline) {
+        try {
+            if (expired.get() || !permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        try {
+            if (expired.get()) {
+                return null;
+            }
+            WordDetailsDTO details = semanticService.getWordDetails(candidate.word());
+            return new Node(candidate.word(), candidate.parent(), candidate.depth(), details);
+        } catch (WordNotFoundException e) {
+            log.debug("🔍 [EXPANSÃO] Sinônimo '{}' não encontrado", candidate.word());
+            return null;
+        } catch (Exception e) {
+            log.warn("⚠️ [EXPANSÃO] Erro ao buscar sinônimo '{}': {}", candidate.word(), e.getMessage());
+            return null;
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Primeiros sinônimos ainda não visitados, na ordem em que aparecem nos significados
+    private static List<String> synonymsOf(WordDetailsDTO details, int limit, Set<String> visited) {
+        List<String> synonyms = new ArrayList<>(limit);
+        if (details == null || details.meanings() == null) {
+            return synonyms;
+        }
+        for (MeaningDTO meaning : details.meanings()) {
+            if (meaning.synonyms() == null) {
+                continue;
+            }
+            for (String synonym : meaning.synonyms()) {
+                if (synonyms.size() == limit) {
+                    return synonyms;
+                }
+                if (synonym == null || synonym.isBlank()) {
+                    continue;
+                }
+                String normalized = SemanticService.normalizeWord(synonym);
+                if (visited.add(normalized)) {
+                    synonyms.add(normalized);
+                }
+            }
+        }
+        return synonyms;
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(1, Math.min(value, max));
+    }
+}
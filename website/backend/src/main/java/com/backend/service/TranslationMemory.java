@@ -0,0 +1,168 @@
+package com.backend.service;
+
+import com.backend.domain.TranslationMemoryEntry;
+import com.backend.persistence.TranslationMemoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Memória de traduções: tudo que já foi traduzido pela API externa fica num cache em memória
+ * e é persistido no Postgres (tabela translation_memory), então uma tradução repetida não sai
+ * do processo e um restart não perde as traduções já pagas com a cota da API.
+ * As gravações são acumuladas e enviadas em lotes de upsert, fora do caminho das requisições.
+ */
+@Service
+@Slf4j
+public class TranslationMemory {
+
+    // Mesmos tamanhos das colunas source_text e translated_text
+    private static final int MAX_SOURCE_LENGTH = 500;
+    private static final int MAX_TRANSLATION_LENGTH = 2000;
+    private static final int MAX_PENDING = 10_000;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO translation_memory (source_text, lang_pair, translated_text, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (source_text, lang_pair)
+            DO UPDATE SET translated_text = EXCLUDED.translated_text, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final Cache<String, String> translationCache;
+    private final TranslationMemoryRepository translationMemoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<String, PendingTranslation> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private record PendingTranslation(String sourceText, String langPair, String translatedText, LocalDateTime at) {
+    }
+
+    public TranslationMemory(@Qualifier("translationCache") Cache<String, String> translationCache,
+                             TranslationMemoryRepository translationMemoryRepository,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${semantic.translation-memory.batch-size:200}") int batchSize) {
+        this.translationCache = translationCache;
+        this.translationMemoryRepository = translationMemoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Tradução já conhecida do texto (normalizado): primeiro no cache, depois no banco.
+     * Se o banco estiver indisponível, responde como se a tradução não existisse.
+     */
+    public Optional<String> find(String sourceText, String langPair) {
+        String key = key(sourceText, langPair);
+        String cached = translationCache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (sourceText.length() > MAX_SOURCE_LENGTH) {
+            return Optional.empty();
+        }
+        try {
+            Optional<String> stored = translationMemoryRepository.findBySourceTextAndLangPair(sourceText, langPair)
+                    .map(TranslationMemoryEntry::getTranslatedText);
+            stored.ifPresent(translation -> translationCache.put(key, translation));
+            return stored;
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Memória de traduções indisponível no banco: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Guarda a tradução no cache e agenda a gravação no banco.
+     */
+    public void remember(String sourceText, String langPair, String translatedText) {
+        String key = key(sourceText, langPair);
+        translationCache.put(key, translatedText);
+        if (sourceText.length() > MAX_SOURCE_LENGTH || translatedText.length() > MAX_TRANSLATION_LENGTH) {
+            return;
+        }
+        if (pending.size() >= MAX_PENDING && !pending.containsKey(key)) {
+            log.warn("⚠️ Fila de gravação da memória de traduções cheia, '{}' ficará apenas em memória", sourceText);
+            return;
+        }
+        pending.put(key, new PendingTranslation(sourceText, langPair, translatedText, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${semantic.translation-memory.flush-interval:5s}")
+    public void flush() {
+        // Lock em vez de synchronized: a escrita no banco bloqueia, e um monitor prenderia
+        // a thread de plataforma por baixo de uma thread virtual durante toda a escrita
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        while (!pending.isEmpty()) {
+            List<String> keys = new ArrayList<>(batchSize);
+            List<PendingTranslation> batch = new ArrayList<>(batchSize);
+            for (Map.Entry<String, PendingTranslation> entry : pending.entrySet()) {
+                if (batch.size() == batchSize) {
+                    break;
+                }
+                // Só sai da fila o valor lido; uma atualização concorrente fica para o próximo lote
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    keys.add(entry.getKey());
+                    batch.add(entry.getValue());
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                write(batch);
+                log.debug("💾 {} traduções gravadas na memória de traduções", batch.size());
+            } catch (DataAccessException e) {
+                log.warn("⚠️ Falha ao gravar {} traduções, nova tentativa no próximo ciclo: {}", batch.size(), e.getMessage());
+                for (int i = 0; i < batch.size(); i++) {
+                    pending.putIfAbsent(keys.get(i), batch.get(i));
+                }
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<PendingTranslation> batch) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (statement, translation) -> {
+            Timestamp at = Timestamp.valueOf(translation.at());
+            statement.setString(1, translation.sourceText());
+            statement.setString(2, translation.langPair());
+            statement.setString(3, translation.translatedText());
+            statement.setTimestamp(4, at);
+            statement.setTimestamp(5, at);
+        });
+    }
+
+    // O par de idiomas ("en|pt") não contém ':', então a chave não é ambígua
+    private static String key(String sourceText, String langPair) {
+        return langPair + ":" + sourceText;
+    }
+}
@@ -0,0 +1,122 @@
+package com.backend.service;
+
+import com.backend.Util.Deadline;
+import com.backend.exception.DeadlineExceededException;
+import com.backend.exception.UpstreamUnavailableException;
+import com.backend.exception.WordNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Protege as chamadas às APIs externas com um circuit breaker e um bulkhead (limite de chamadas
+ * simultâneas) por serviço, configurados em resilience4j.* no application.properties.
+ * Enquanto um serviço está fora do ar, lento ou saturado, a chamada é recusada na hora e a resposta
+ * vem da última resposta boa guardada para a mesma chave ou, na falta dela, de uma resposta degradada.
+ * Sem nenhuma das duas, a falha vira {@link UpstreamUnavailableException} (503), nunca um "não encontrado".
+ * Uma chamada interrompida pelo fim do prazo da requisição (Deadline) vira
+ * {@link DeadlineExceededException}, que o circuit breaker ignora: o prazo curto é de quem chamou,
+ * não uma falha do serviço.
+ */
+@Component
+@Slf4j
+public class UpstreamGuard {
+
+    public enum Upstream {
+        DICTIONARY("dictionary"),
+        TRANSLATION("translation"),
+        WIKIDATA("wikidata"),
+        DBPEDIA("dbpedia");
+
+        private final String id;
+
+        Upstream(String id) {
+            this.id = id;
+        }
+
+        public String id() {
+            return id;
+        }
+    }
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Cache<String, Object> lastKnownGoodCache;
+
+    public UpstreamGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                         BulkheadRegistry bulkheadRegistry,
+                         Cache<String, Object> lastKnownGoodCache) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.lastKnownGoodCache = lastKnownGoodCache;
+    }
+
+    /**
+     * Executa a chamada ao serviço externo. Resultados não nulos são guardados como última resposta boa
+     * da chave. {@link WordNotFoundException} é repassada sem fallback (não é falha do serviço).
+     *
+     * @param degraded resposta usada quando não há resposta boa guardada; se null, a falha é lançada
+     *                 como {@link UpstreamUnavailableException}
+     */
+    public <T> T call(Upstream upstream, String key, Supplier<T> call, Supplier<T> degraded) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(upstream.id());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(upstream.id());
+        String cacheKey = upstream.id() + ":" + key;
+        try {
+            T result = CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, withinDeadline(call))).get();
+            if (result != null) {
+                lastKnownGoodCache.put(cacheKey, result);
+            }
+            return result;
+        } catch (WordNotFoundException | DeadlineExceededException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // A chave inclui o serviço, então o valor guardado é sempre do tipo retornado por essa chamada
+            @SuppressWarnings("unchecked")
+            T lastKnownGood = (T) lastKnownGoodCache.getIfPresent(cacheKey);
+            if (lastKnownGood != null) {
+                log.warn("♻️ [{}] Indisponível ({}), usando a última resposta conhecida para '{}'",
+                        upstream.id(), e.toString(), key);
+                return lastKnownGood;
+            }
+            if (degraded != null) {
+                log.warn("⚠️ [{}] Indisponível ({}), retornando resposta degradada para '{}'",
+                        upstream.id(), e.toString(), key);
+                return degraded.get();
+            }
+            log.error("❌ [{}] Falha na chamada para '{}': {}", upstream.id(), key, e.toString());
+            throw new UpstreamUnavailableException("Serviço externo '" + upstream.id() + "' indisponível", e);
+        }
+    }
+
+    /**
+     * Executa a chamada só com o circuit breaker e o bulkhead do serviço, sem guardar nem usar a última
+     * resposta boa. Para chamadas em lote, em que o fallback é feito item a item por quem chama.
+     */
+    public <T> T protect(Upstream upstream, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(upstream.id());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(upstream.id());
+        return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, withinDeadline(call))).get();
+    }
+
+    // Prazo já esgotado: nem chama; erro depois do fim do prazo (timeout limitado, interrupção): é do prazo
+    private static <T> Supplier<T> withinDeadline(Supplier<T> call) {
+        return () -> {
+            Deadline.checkCurrent();
+            try {
+                return call.get();
+            } catch (WordNotFoundException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                Deadline.checkCurrent();
+                throw e;
+            }
+        };
+    }
+}
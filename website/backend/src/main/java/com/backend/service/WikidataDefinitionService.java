@@ -0,0 +1,249 @@
+package com.backend.service;
+
+import com.backend.Util.Deadline;
+import com.backend.Util.RefreshingCache;
+import com.backend.Util.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QuerySolution;
+import org.apache.jena.query.ResultSet;
+import org.apache.jena.sparql.exec.http.QueryExecutionHTTP;
+import org.apache.jena.sparql.util.FmtUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Definições de palavras em inglês no banco de dados lexical da Wikidata (lexemas), via SPARQL.
+ * Várias palavras são resolvidas numa única consulta, com um bloco VALUES de lemas exatos
+ * ("house"@en), o que permite à Wikidata usar o índice de lemas em vez de varrer todos os lexemas
+ * comparando em minúsculas. Os resultados ficam no wikidataDefinitionCache, por palavra normalizada.
+ * Com o espelho local de lexemas (LexemeMirror) disponível, a mesma consulta roda primeiro nele;
+ * a Wikidata só é consultada para as palavras que faltarem, se semantic.lexemes.remote-fallback permitir.
+ */
+@Service
+@Slf4j
+public class WikidataDefinitionService {
+
+    private static final String SPARQL_ENDPOINT = "https://query.wikidata.org/sparql";
+
+    private static final String QUERY_TEMPLATE = """
+            PREFIX dct: <http://purl.org/dc/terms/>
+            PREFIX wikibase: <http://wikiba.se/ontology#>
+            PREFIX ontolex: <http://www.w3.org/ns/lemon/ontolex#>
+            PREFIX skos: <http://www.w3.org/2004/02/skos/core#>
+            PREFIX wd: <http://www.wikidata.org/entity/>
+
+            SELECT ?lemma (SAMPLE(?senseDefinition) AS ?definition) WHERE {
+              VALUES ?lemma { %s }
+              ?lexeme dct:language wd:Q1860;
+                      wikibase:lemma ?lemma;
+                      ontolex:sense ?sense.
+              ?sense skos:definition ?senseDefinition.
+              FILTER(LANG(?senseDefinition) = "en")
+            }
+            GROUP BY ?lemma
+            """;
+
+    private final RefreshingCache<String> wikidataDefinitionCache;
+    private final UpstreamGuard upstreamGuard;
+    private final HttpClient httpClient;
+    private final LexemeMirror lexemeMirror;
+
+    // Buscas simultâneas da mesma palavra (fora de lote) compartilham uma única consulta
+    private final SingleFlight<String, String> wikidataFlights = new SingleFlight<>();
+
+    @Value("${semantic.wikidata.batch-size:50}")
+    private int batchSize;
+
+    @Value("${semantic.wikidata.timeout:10s}")
+    private Duration timeout;
+
+    @Value("${semantic.lexemes.remote-fallback:true}")
+    private boolean remoteFallback;
+
+    public WikidataDefinitionService(RefreshingCache<String> wikidataDefinitionCache,
+                                     UpstreamGuard upstreamGuard,
+                                     HttpClient httpClient,
+                                     LexemeMirror lexemeMirror) {
+        this.wikidataDefinitionCache = wikidataDefinitionCache;
+        this.upstreamGuard = upstreamGuard;
+        this.httpClient = httpClient;
+        this.lexemeMirror = lexemeMirror;
+    }
+
+    /**
+     * Definição de uma palavra, ou uma mensagem explicando que ela não foi encontrada ou que a
+     * Wikidata está indisponível.
+     */
+    public String definitionOf(String term) {
+        String key = SemanticService.normalizeWord(term);
+        try {
+            return wikidataDefinitionCache.get(key, this::load);
+        } catch (RuntimeException e) {
+            // Só respostas reais da Wikidata vão para o cache; a mensagem de indisponibilidade não
+            return unavailableMessage(term);
+        }
+    }
+
+    /**
+     * Definição já guardada no cache para a palavra, sem consultar nada (null se não houver).
+     */
+    public String cachedDefinition(String term) {
+        return wikidataDefinitionCache.getIfPresent(SemanticService.normalizeWord(term));
+    }
+
+    /**
+     * Definições de várias palavras, por palavra normalizada, com uma consulta à Wikidata por lote de
+     * semantic.wikidata.batch-size palavras que ainda não estão no cache.
+     */
+    public Map<String, String> definitionsOf(Collection<String> terms) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String term : terms) {
+            keys.add(SemanticService.normalizeWord(term));
+        }
+        Map<String, String> definitions = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            String cached = wikidataDefinitionCache.getIfServable(key, this::load);
+            if (cached != null) {
+                definitions.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty() && lexemeMirror.isAvailable()) {
+            try {
+                Map<String, String> local = queryLocal(missing);
+                local.forEach((key, definition) -> {
+                    wikidataDefinitionCache.put(key, definition);
+                    definitions.put(key, definition);
+                });
+                missing.removeAll(local.keySet());
+            } catch (RuntimeException e) {
+                log.warn("⚠️ [Wikidata] Erro ao consultar o espelho local de lexemas: {}", e.getMessage());
+            }
+        }
+        if (!remoteAllowed()) {
+            for (String key : missing) {
+                String definition = notFoundMessage(key);
+                wikidataDefinitionCache.put(key, definition);
+                definitions.put(key, definition);
+            }
+            return definitions;
+        }
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<String> batch = missing.subList(from, Math.min(from + batchSize, missing.size()));
+            try {
+                Map<String, String> found = upstreamGuard.protect(UpstreamGuard.Upstream.WIKIDATA, () -> queryRemote(batch));
+                for (String key : batch) {
+                    String definition = found.getOrDefault(key, notFoundMessage(key));
+                    wikidataDefinitionCache.put(key, definition);
+                    definitions.put(key, definition);
+                }
+            } catch (RuntimeException e) {
+                log.warn("⚠️ [Wikidata] Falha no lote de {} palavras: {}", batch.size(), e.getMessage());
+                for (String key : batch) {
+                    // Valor vencido ainda no período de carência, se houver
+                    String stale = wikidataDefinitionCache.getIfPresent(key);
+                    definitions.put(key, stale != null ? stale : unavailableMessage(key));
+                }
+            }
+        }
+        return definitions;
+    }
+
+    // Carga de uma palavra: espelho local primeiro; na Wikidata, buscas simultâneas da mesma palavra
+    // compartilham a consulta e, se ela falhar, vale a última resposta boa do UpstreamGuard
+    private String load(String key) {
+        if (lexemeMirror.isAvailable()) {
+            String local = queryLocal(List.of(key)).get(key);
+            if (local != null) {
+                return local;
+            }
+        }
+        if (!remoteAllowed()) {
+            return notFoundMessage(key);
+        }
+        return wikidataFlights.execute(key, () -> upstreamGuard.call(UpstreamGuard.Upstream.WIKIDATA, key,
+                () -> queryRemote(List.of(key)).getOrDefault(key, notFoundMessage(key)), null));
+    }
+
+    private boolean remoteAllowed() {
+        return remoteFallback || !lexemeMirror.isAvailable();
+    }
+
+    private Map<String, String> queryLocal(List<String> keys) {
+        long start = System.nanoTime();
+        Map<String, String> found = new HashMap<>();
+        lexemeMirror.select(QUERY_TEMPLATE.formatted(lemmaValues(keys)), soln -> collect(soln, found));
+        log.debug("📚 [Wikidata] {} de {} definições no espelho local em {} ms",
+                found.size(), keys.size(), (System.nanoTime() - start) / 1_000_000);
+        return found;
+    }
+
+    /**
+     * Uma consulta à Wikidata para todas as palavras (normalizadas); só as encontradas entram no resultado.
+     */
+    private Map<String, String> queryRemote(List<String> keys) {
+        log.info("🌐 [Wikidata] Buscando definições para {} palavra(s)", keys.size());
+        String sparqlQuery = QUERY_TEMPLATE.formatted(lemmaValues(keys));
+
+        Map<String, String> found = new HashMap<>();
+        try (QueryExecution qExec = QueryExecutionHTTP.create()
+                .httpClient(httpClient)
+                .endpoint(SPARQL_ENDPOINT)
+                .query(sparqlQuery)
+                .httpHeader("Accept", "application/sparql-results+json")
+                .httpHeader("User-Agent", "EnglishForAllTimeApp/1.0 (https://github.com/user/project)")
+                .timeout(Deadline.limit(timeout).toMillis())
+                .build()) {
+
+            ResultSet results = qExec.execSelect();
+            while (results.hasNext()) {
+                collect(results.nextSolution(), found);
+            }
+        }
+        log.info("✅ [Wikidata] {} de {} definições encontradas", found.size(), keys.size());
+        return found;
+    }
+
+    // "House" e "house" caem na mesma chave: fica a primeira definição
+    private static void collect(QuerySolution soln, Map<String, String> found) {
+        String key = SemanticService.normalizeWord(soln.getLiteral("lemma").getString());
+        found.putIfAbsent(key, "Definição da Wikidata: " + soln.getLiteral("definition").getString());
+    }
+
+    // Cada palavra entra em minúsculas e com a inicial maiúscula (nomes próprios, "English"),
+    // como literais escapados pelo próprio Jena
+    private static String lemmaValues(List<String> keys) {
+        StringBuilder values = new StringBuilder();
+        for (String key : keys) {
+            values.append(FmtUtils.stringForNode(NodeFactory.createLiteral(key, "en"))).append(' ');
+            String capitalized = key.isEmpty() ? key : Character.toUpperCase(key.charAt(0)) + key.substring(1);
+            if (!capitalized.equals(key)) {
+                values.append(FmtUtils.stringForNode(NodeFactory.createLiteral(capitalized, "en"))).append(' ');
+            }
+        }
+        return values.toString().trim();
+    }
+
+    private static String notFoundMessage(String key) {
+        return String.format("Nenhuma definição foi encontrada na base de dados lexical da Wikidata para '%s'.", key);
+    }
+
+    private static String unavailableMessage(String term) {
+        return String.format("Não foi possível consultar a base de dados interligados (Wikidata) para o termo '%s'.", term);
+    }
+}
@@ -0,0 +1,217 @@
+package com.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Converte um arquivo de vetores de palavras para o formato binário lido pelo WordVectorIndex:
+ * cabeçalho (magic, versão, quantidade, dimensões) seguido dos vetores normalizados em float32
+ * little-endian, e a lista de palavras na mesma ordem. Formatos aceitos: texto do GloVe
+ * ("palavra v1 v2 ..."), texto do fastText (.vec, com a linha "quantidade dimensões" no início)
+ * e binário do word2vec (.bin); .gz é descompactado. As palavras são normalizadas e, quando duas
+ * caem na mesma forma ("Paris" e "paris"), fica a primeira do arquivo (a mais frequente).
+ */
+@Service
+@Slf4j
+public class WordVectorImporter {
+
+    private static final int VERSION = 1;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final WordVectorIndex wordVectorIndex;
+
+    public WordVectorImporter(WordVectorIndex wordVectorIndex) {
+        this.wordVectorIndex = wordVectorIndex;
+    }
+
+    /**
+     * Substitui o índice de vetores pelo conteúdo do arquivo.
+     *
+     * @return quantidade de palavras gravadas
+     */
+    public int importVectors(Path source) throws IOException {
+        Path indexPath = wordVectorIndex.getIndexPath();
+        log.info("📥 Importando vetores de palavras de {} para {}", source, indexPath);
+        long start = System.nanoTime();
+        Files.createDirectories(indexPath);
+        Path vectorsTmp = indexPath.resolve(WordVectorIndex.VECTORS_FILE + ".tmp");
+        Path wordsTmp = indexPath.resolve(WordVectorIndex.WORDS_FILE + ".tmp");
+
+        VectorWriter writer = new VectorWriter(vectorsTmp, wordsTmp);
+        try (writer) {
+            String name = source.getFileName().toString();
+            if (name.endsWith(".bin") || name.endsWith(".bin.gz")) {
+                readWord2VecBinary(source, writer);
+            } else {
+                readText(source, writer);
+            }
+        }
+        if (writer.count == 0) {
+            Files.deleteIfExists(vectorsTmp);
+            Files.deleteIfExists(wordsTmp);
+            throw new IOException("Nenhum vetor válido encontrado em " + source);
+        }
+
+        // A troca dos arquivos não afeta o mapeamento antigo, que continua válido até o reload
+        Files.move(wordsTmp, indexPath.resolve(WordVectorIndex.WORDS_FILE), StandardCopyOption.REPLACE_EXISTING);
+        Files.move(vectorsTmp, indexPath.resolve(WordVectorIndex.VECTORS_FILE), StandardCopyOption.REPLACE_EXISTING);
+        wordVectorIndex.reload();
+        log.info("✅ {} vetores de {} dimensões importados ({} ignorados) em {} s",
+                writer.count, writer.dimensions, writer.skipped, (System.nanoTime() - start) / 1_000_000_000);
+        return writer.count;
+    }
+
+    private static void readText(Path source, VectorWriter writer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(source), StandardCharsets.UTF_8), 1 << 16)) {
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.trim().split(" ");
+                if (first) {
+                    first = false;
+                    // Cabeçalho do fastText: "quantidade dimensões"
+                    if (fields.length == 2 && fields[0].chars().allMatch(Character::isDigit)) {
+                        continue;
+                    }
+                }
+                if (fields.length < 2) {
+                    continue;
+                }
+                float[] vector = new float[fields.length - 1];
+                try {
+                    for (int i = 1; i < fields.length; i++) {
+                        vector[i - 1] = Float.parseFloat(fields[i]);
+                    }
+                } catch (NumberFormatException e) {
+                    // Tokens com espaço no meio (há alguns no GloVe 840B) não são separáveis dos números
+                    writer.skipped++;
+                    continue;
+                }
+                writer.add(fields[0], vector);
+            }
+        }
+    }
+
+    // Formato binário do word2vec: "quantidade dimensões\n" e, para cada palavra, "palavra " seguida
+    // dos floats little-endian (e opcionalmente de uma quebra de linha)
+    private static void readWord2VecBinary(Path source, VectorWriter writer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(open(source), 1 << 16))) {
+            String[] header = readToken(in, '\n').trim().split(" ");
+            int count = Integer.parseInt(header[0]);
+            int dimensions = Integer.parseInt(header[1]);
+            byte[] raw = new byte[dimensions * Float.BYTES];
+            ByteBuffer buffer = ByteBuffer.wrap(raw).order(ByteOrder.LITTLE_ENDIAN);
+            for (int n = 0; n < count; n++) {
+                String word = readToken(in, ' ').strip();
+                in.readFully(raw);
+                float[] vector = new float[dimensions];
+                buffer.clear();
+                buffer.asFloatBuffer().get(vector);
+                writer.add(word, vector);
+            }
+        }
+    }
+
+    private static String readToken(DataInputStream in, char delimiter) throws IOException {
+        ByteArrayOutputStream token = new ByteArrayOutputStream(32);
+        int b;
+        while ((b = in.read()) != -1 && b != delimiter) {
+            token.write(b);
+        }
+        return token.toString(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream open(Path source) throws IOException {
+        InputStream in = Files.newInputStream(source);
+        return source.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(in, 1 << 16) : in;
+    }
+
+    // Grava vetores normalizados e palavras; o cabeçalho é reescrito no fim, com a quantidade final
+    private static final class VectorWriter implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final BufferedWriter words;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private final Set<String> seen = new HashSet<>();
+        private int dimensions = -1;
+        private int count;
+        private int skipped;
+
+        VectorWriter(Path vectorsFile, Path wordsFile) throws IOException {
+            channel = FileChannel.open(vectorsFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(WordVectorIndex.HEADER_BYTES);
+            words = Files.newBufferedWriter(wordsFile, StandardCharsets.UTF_8);
+        }
+
+        void add(String token, float[] vector) throws IOException {
+            if (dimensions < 0) {
+                dimensions = vector.length;
+            }
+            String word = SemanticService.normalizeWord(token);
+            if (vector.length != dimensions || word.isEmpty() || word.indexOf('\n') >= 0 || !seen.add(word)) {
+                skipped++;
+                return;
+            }
+            double norm = 0;
+            for (float value : vector) {
+                norm += value * value;
+            }
+            if (norm == 0) {
+                skipped++;
+                return;
+            }
+            float scale = (float) (1 / Math.sqrt(norm));
+            if (buffer.remaining() < dimensions * Float.BYTES) {
+                drain();
+            }
+            for (float value : vector) {
+                buffer.putFloat(value * scale);
+            }
+            words.write(word);
+            words.newLine();
+            if (++count % 100_000 == 0) {
+                log.info("💾 {} vetores gravados", count);
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (channel; words) {
+                drain();
+                ByteBuffer header = ByteBuffer.allocate(WordVectorIndex.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(WordVectorIndex.MAGIC).putInt(VERSION).putInt(count).putInt(Math.max(dimensions, 0)).flip();
+                channel.write(header, 0);
+                channel.force(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.backend.service;
+
+import com.backend.Util.VectorMath;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Vetores de palavras (GloVe, fastText, word2vec) para calcular similaridade, mapeados da memória
+ * (fora do heap) a partir do arquivo binário gerado pelo WordVectorImporter. Os vetores ficam
+ * normalizados no arquivo, então a similaridade de cosseno é só o produto escalar (VectorMath).
+ * No heap ficam apenas as palavras, ordenadas, com a linha de cada uma no arquivo.
+ * Sem o arquivo, o índice fica desativado e as similaridades continuam com os valores fixos.
+ */
+@Component
+@Slf4j
+public class WordVectorIndex {
+
+    static final String VECTORS_FILE = "vectors.bin";
+    static final String WORDS_FILE = "words.txt";
+    static final int MAGIC = 0x45464156;
+    static final int HEADER_BYTES = 16;
+
+    // Linhas lidas de uma vez na varredura do top-k
+    private static final int BLOCK_ROWS = 256;
+
+    /**
+     * Palavra vizinha e a similaridade de cosseno com a palavra consultada.
+     */
+    public record Neighbour(String word, float similarity) {
+    }
+
+    // Estado imutável trocado por inteiro a cada importação
+    private record Vectors(String[] sortedWords, int[] rows, String[] rowWords,
+                           FloatBuffer[] chunks, int rowsPerChunk, int dimensions) {
+    }
+
+    private final Path indexPath;
+    private volatile Vectors vectors;
+
+    public WordVectorIndex(@Value("${semantic.vectors.index-path:data/word-vectors}") String indexPath) {
+        this.indexPath = Path.of(indexPath);
+        if (Files.isRegularFile(this.indexPath.resolve(VECTORS_FILE))) {
+            reload();
+        } else {
+            log.info("ℹ️ Vetores de palavras não encontrados em {}, similaridades ficarão com valores fixos", indexPath);
+        }
+    }
+
+    public Path getIndexPath() {
+        return indexPath;
+    }
+
+    public boolean isAvailable() {
+        return vectors != null;
+    }
+
+    /**
+     * Similaridade de cosseno entre duas palavras, ou null se alguma delas não tiver vetor.
+     */
+    public Float similarity(String first, String second) {
+        Vectors current = vectors;
+        if (current == null) {
+            return null;
+        }
+        int a = rowOf(current, SemanticService.normalizeWord(first));
+        int b = rowOf(current, SemanticService.normalizeWord(second));
+        if (a < 0 || b < 0) {
+            return null;
+        }
+        float[] va = read(current, a);
+        float[] vb = read(current, b);
+        return VectorMath.dot(va, 0, vb, 0, current.dimensions());
+    }
+
+    /**
+     * As k palavras mais próximas (maior cosseno) da palavra, sem ela mesma, da mais próxima para a
+     * menos próxima; lista vazia se a palavra não tiver vetor. Varre todos os vetores em blocos.
+     */
+    public List<Neighbour> mostSimilar(String word, int k) {
+        Vectors current = vectors;
+        if (current == null || k <= 0) {
+            return List.of();
+        }
+        int self = rowOf(current, SemanticService.normalizeWord(word));
+        if (self < 0) {
+            return List.of();
+        }
+        int dimensions = current.dimensions();
+        float[] query = read(current, self);
+        float[] block = new float[BLOCK_ROWS * dimensions];
+        TopK top = new TopK(k);
+        int total = current.rowWords().length;
+        for (int start = 0; start < total; ) {
+            int chunk = start / current.rowsPerChunk();
+            int rowInChunk = start - chunk * current.rowsPerChunk();
+            int count = Math.min(BLOCK_ROWS, Math.min(total - start, current.rowsPerChunk() - rowInChunk));
+            current.chunks()[chunk].get(rowInChunk * dimensions, block, 0, count * dimensions);
+            for (int i = 0; i < count; i++) {
+                int row = start + i;
+                if (row != self) {
+                    top.offer(row, VectorMath.dot(query, 0, block, i * dimensions, dimensions));
+                }
+            }
+            start += count;
+        }
+        return top.toNeighbours(current.rowWords());
+    }
+
+    /**
+     * (Re)abre o arquivo binário do índice; chamado na inicialização e ao fim de cada importação.
+     */
+    synchronized void reload() {
+        Path vectorsFile = indexPath.resolve(VECTORS_FILE);
+        try (FileChannel channel = FileChannel.open(vectorsFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Arquivo de vetores inválido: " + vectorsFile);
+            }
+            header.getInt(); // versão
+            int count = header.getInt();
+            int dimensions = header.getInt();
+
+            // Cada mapeamento tem no máximo 2 GB, com um número inteiro de linhas
+            int rowBytes = dimensions * Float.BYTES;
+            int rowsPerChunk = Math.max(1, Integer.MAX_VALUE / rowBytes);
+            FloatBuffer[] chunks = new FloatBuffer[(count + rowsPerChunk - 1) / rowsPerChunk];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = HEADER_BYTES + (long) i * rowsPerChunk * rowBytes;
+                long size = (long) Math.min(rowsPerChunk, count - i * rowsPerChunk) * rowBytes;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, size)
+                        .order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            }
+
+            String[] rowWords = readWords(indexPath.resolve(WORDS_FILE), count);
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> rowWords[a].compareTo(rowWords[b]));
+            String[] sortedWords = new String[count];
+            int[] rows = new int[count];
+            for (int i = 0; i < count; i++) {
+                sortedWords[i] = rowWords[order[i]];
+                rows[i] = order[i];
+            }
+            vectors = new Vectors(sortedWords, rows, rowWords, chunks, rowsPerChunk, dimensions);
+            log.info("🧭 Vetores de palavras mapeados de {}: {} palavras, {} dimensões, {} MB fora do heap (SIMD: {})",
+                    vectorsFile, count, dimensions, (long) count * rowBytes / (1024 * 1024), VectorMath.isSimdEnabled());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir os vetores de palavras em " + indexPath, e);
+        }
+    }
+
+    private static String[] readWords(Path wordsFile, int count) throws IOException {
+        String[] words = new String[count];
+        try (BufferedReader reader = Files.newBufferedReader(wordsFile, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < count; i++) {
+                String line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Lista de palavras menor que o arquivo de vetores: " + wordsFile);
+                }
+                words[i] = line;
+            }
+        }
+        return words;
+    }
+
+    private static int rowOf(Vectors current, String normalizedWord) {
+        int index = Arrays.binarySearch(current.sortedWords(), normalizedWord);
+        return index < 0 ? -1 : current.rows()[index];
+    }
+
+    private static float[] read(Vectors current, int row) {
+        float[] vector = new float[current.dimensions()];
+        int chunk = row / current.rowsPerChunk();
+        int rowInChunk = row - chunk * current.rowsPerChunk();
+        current.chunks()[chunk].get(rowInChunk * current.dimensions(), vector);
+        return vector;
+    }
+
+    // Heap de mínimo com as k maiores similaridades vistas até agora (arrays primitivos, sem objetos por linha)
+    private static final class TopK {
+
+        private final int[] rows;
+        private final float[] scores;
+        private int size;
+
+        TopK(int k) {
+            rows = new int[k];
+            scores = new float[k];
+        }
+
+        void offer(int row, float score) {
+            if (size < rows.length) {
+                rows[size] = row;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                rows[0] = row;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        List<Neighbour> toNeighbours(String[] rowWords) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+            List<Neighbour> neighbours = new ArrayList<>(size);
+            for (int i : order) {
+                neighbours.add(new Neighbour(rowWords[rows[i]], scores[i]));
+            }
+            return neighbours;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (scores[parent] <= scores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int smallest = i;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (left + 1 < size && scores[left + 1] < scores[smallest]) {
+                    smallest = left + 1;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
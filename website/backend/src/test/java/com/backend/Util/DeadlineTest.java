@@ -0,0 +1,113 @@
+package com.backend.Util;
+
+import com.backend.exception.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineTest {
+
+    @Test
+    void limitCapsTheTimeoutAtTheRemainingTime() {
+        try (Deadline.Scope attached = Deadline.attach(Deadline.after(Duration.ofMillis(500)))) {
+            assertThat(Deadline.limit(Duration.ofSeconds(10))).isLessThanOrEqualTo(Duration.ofMillis(500));
+            assertThat(Deadline.limit(Duration.ofMillis(100))).isEqualTo(Duration.ofMillis(100));
+        }
+        assertThat(Deadline.limit(Duration.ofSeconds(10))).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void limitAndCheckFailOnceTheDeadlineIsOver() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        deadline.cancel();
+        try (Deadline.Scope attached = Deadline.attach(deadline)) {
+            assertThat(deadline.isExpired()).isTrue();
+            assertThat(deadline.remaining()).isZero();
+            assertThatThrownBy(() -> Deadline.limit(Duration.ofSeconds(1))).isInstanceOf(DeadlineExceededException.class);
+            assertThatThrownBy(Deadline::checkCurrent)
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasMessage("Requisição cancelada");
+        }
+        Deadline.checkCurrent();
+    }
+
+    @Test
+    void attachRestoresThePreviousDeadline() {
+        Deadline outer = Deadline.after(Duration.ofSeconds(10));
+        Deadline inner = Deadline.after(Duration.ofSeconds(1));
+        try (Deadline.Scope first = Deadline.attach(outer)) {
+            try (Deadline.Scope second = Deadline.attach(inner)) {
+                assertThat(Deadline.current()).isSameAs(inner);
+            }
+            assertThat(Deadline.current()).isSameAs(outer);
+            try (Deadline.Scope detached = Deadline.attach(null)) {
+                assertThat(Deadline.current()).isNull();
+            }
+            assertThat(Deadline.current()).isSameAs(outer);
+        }
+        assertThat(Deadline.current()).isNull();
+    }
+
+    @Test
+    void cancelRunsEachRegisteredCallbackOnce() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger removedCalls = new AtomicInteger();
+        deadline.onCancel(calls::incrementAndGet);
+        deadline.onCancel(removedCalls::incrementAndGet).close();
+
+        deadline.cancel();
+        deadline.cancel();
+
+        assertThat(calls).hasValue(1);
+        assertThat(removedCalls).hasValue(0);
+        // Registrado depois do cancelamento: roda na hora
+        deadline.onCancel(calls::incrementAndGet);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void expiryReportsTheBudget() throws InterruptedException {
+        Deadline deadline = Deadline.after(Duration.ofMillis(20));
+        Thread.sleep(40);
+
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.exceeded()).hasMessage("Prazo de 20 ms da requisição esgotado");
+    }
+
+    @Test
+    void acquireWaitsAtMostTheRemainingTime() {
+        Semaphore permits = new Semaphore(1);
+        try (Deadline.Scope attached = Deadline.attach(Deadline.after(Duration.ofMillis(100)))) {
+            Deadline.acquire(permits);
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> Deadline.acquire(permits)).isInstanceOf(DeadlineExceededException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        }
+        permits.release();
+        Deadline.acquire(permits);
+        assertThat(permits.availablePermits()).isZero();
+    }
+
+    @Test
+    void awaitReturnsTheValueOrTheFailureCause() {
+        assertThat(Deadline.await(CompletableFuture.completedFuture("ok"))).isEqualTo("ok");
+        assertThatThrownBy(() -> Deadline.await(CompletableFuture.failedFuture(new IllegalArgumentException("falhou"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("falhou");
+    }
+
+    @Test
+    void awaitGivesUpWhenTheDeadlineEnds() {
+        try (Deadline.Scope attached = Deadline.attach(Deadline.after(Duration.ofMillis(50)))) {
+            assertThatThrownBy(() -> Deadline.await(new CompletableFuture<>()))
+                    .isInstanceOf(DeadlineExceededException.class);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.backend.Util;
+
+import com.backend.Util.LexicalRelationGraph.Edge;
+import com.backend.Util.LexicalRelationGraph.Relation;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.backend.Util.LexicalRelationGraph.Relation.ANTONYM;
+import static com.backend.Util.LexicalRelationGraph.Relation.DERIVATION;
+import static com.backend.Util.LexicalRelationGraph.Relation.DOMAIN;
+import static com.backend.Util.LexicalRelationGraph.Relation.HYPERNYM;
+import static com.backend.Util.LexicalRelationGraph.Relation.RELATED;
+import static com.backend.Util.LexicalRelationGraph.Relation.SYNONYM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LexicalRelationGraphTest {
+
+    private static final Set<Relation> ALL = EnumSet.allOf(Relation.class);
+
+    @Test
+    void symmetricRelationsGetTheReverseEdge() {
+        LexicalRelationGraph graph = new LexicalRelationGraph.Builder()
+                .add("happy", SYNONYM, "glad", 0.9f)
+                .add("happy", ANTONYM, "sad", 0.95f)
+                .add("dog", HYPERNYM, "animal", 0.8f)
+                .add("computer", DOMAIN, "technology", 0.85f)
+                .build();
+
+        assertThat(graph.neighbours("glad", ALL, 10)).containsExactly(new Edge("happy", SYNONYM, 0.9f));
+        assertThat(graph.neighbours("sad", ALL, 10)).containsExactly(new Edge("happy", ANTONYM, 0.95f));
+        // Hiperônimo e domínio têm direção
+        assertThat(graph.neighbours("animal", ALL, 10)).isEmpty();
+        assertThat(graph.neighbours("technology", ALL, 10)).isEmpty();
+        assertThat(graph.neighbours("dog", ALL, 10)).containsExactly(new Edge("animal", HYPERNYM, 0.8f));
+        assertThat(graph.wordCount()).isEqualTo(7);
+        assertThat(graph.edgeCount()).isEqualTo(6);
+    }
+
+    @Test
+    void repeatedEdgesKeepTheHighestWeight() {
+        LexicalRelationGraph graph = new LexicalRelationGraph.Builder()
+                .add("happy", SYNONYM, "glad", 0.3f)
+                .add("happy", SYNONYM, "glad", 0.8f)
+                .add("glad", SYNONYM, "happy", 0.5f)
+                .add("happy", RELATED, "glad", 0.2f)
+                .build();
+
+        // A mesma palavra em outra relação é outra aresta
+        assertThat(graph.neighbours("happy", ALL, 10)).containsExactly(
+                new Edge("glad", SYNONYM, 0.8f),
+                new Edge("glad", RELATED, 0.2f));
+        assertThat(graph.neighbours("glad", ALL, 10)).containsExactly(
+                new Edge("happy", SYNONYM, 0.8f),
+                new Edge("happy", RELATED, 0.2f));
+        assertThat(graph.edgeCount()).isEqualTo(4);
+    }
+
+    @Test
+    void compactsEachWordsEdgesInPlace() {
+        // "a" perde quase todas as arestas na deduplicação, então os trechos seguintes
+        // são gravados à esquerda de onde estavam (out < from)
+        LexicalRelationGraph.Builder builder = new LexicalRelationGraph.Builder();
+        for (int i = 0; i < 50; i++) {
+            builder.add("a", HYPERNYM, "b", i / 100f);
+        }
+        for (int i = 0; i < 20; i++) {
+            builder.add("c", HYPERNYM, "word" + i, i / 100f);
+            builder.add("d", DERIVATION, "word" + i, i / 100f);
+        }
+        LexicalRelationGraph graph = builder.build();
+
+        assertThat(graph.neighbours("a", ALL, 100)).containsExactly(new Edge("b", HYPERNYM, 0.49f));
+        List<Edge> c = graph.neighbours("c", ALL, 100);
+        assertThat(c).hasSize(20);
+        assertThat(c.get(0)).isEqualTo(new Edge("word19", HYPERNYM, 0.19f));
+        assertThat(c.get(19)).isEqualTo(new Edge("word0", HYPERNYM, 0f));
+        assertThat(graph.neighbours("d", ALL, 100)).hasSize(20).allMatch(edge -> edge.relation() == DERIVATION);
+        assertThat(graph.neighbours("word7", ALL, 100)).containsExactly(new Edge("d", DERIVATION, 0.07f));
+        assertThat(graph.edgeCount()).isEqualTo(1 + 20 + 20 + 20);
+    }
+
+    @Test
+    void limitsEachRelationSeparately() {
+        LexicalRelationGraph graph = new LexicalRelationGraph.Builder()
+                .add("happy", RELATED, "joy", 0.85f)
+                .add("happy", RELATED, "positive", 0.8f)
+                .add("happy", RELATED, "smile", 0.7f)
+                .add("happy", ANTONYM, "unhappy", 0.9f)
+                .add("happy", ANTONYM, "sad", 0.95f)
+                .add("happy", ANTONYM, "miserable", 0.6f)
+                .add("happy", DOMAIN, "emotion", 0.9f)
+                .build();
+
+        // Na ordem do enum e, dentro de cada relação, do maior peso para o menor
+        assertThat(graph.neighbours("happy", ALL, 2)).containsExactly(
+                new Edge("sad", ANTONYM, 0.95f),
+                new Edge("unhappy", ANTONYM, 0.9f),
+                new Edge("emotion", DOMAIN, 0.9f),
+                new Edge("joy", RELATED, 0.85f),
+                new Edge("positive", RELATED, 0.8f));
+        // O limite conta só as relações pedidas
+        assertThat(graph.neighbours("happy", EnumSet.of(RELATED), 1)).containsExactly(new Edge("joy", RELATED, 0.85f));
+    }
+
+    @Test
+    void ignoresSelfLoopsAndUnknownWords() {
+        LexicalRelationGraph graph = new LexicalRelationGraph.Builder()
+                .add("happy", SYNONYM, "happy", 1f)
+                .build();
+
+        assertThat(graph.wordCount()).isZero();
+        assertThat(graph.neighbours("happy", ALL, 10)).isEmpty();
+        assertThat(LexicalRelationGraph.empty().neighbours("happy", ALL, 10)).isEmpty();
+        assertThat(Relation.fromId("antonym")).isEqualTo(ANTONYM);
+        assertThat(Relation.fromId("opposite")).isNull();
+    }
+}
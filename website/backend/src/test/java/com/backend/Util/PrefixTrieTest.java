@@ -0,0 +1,89 @@
+package com.backend.Util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+    private static final int MAX_SUGGESTIONS = 3;
+
+    private final PrefixTrie trie = build(Map.of(
+            "car", 5L,
+            "card", 9L,
+            "care", 9L,
+            "careful", 1L,
+            "cart", 7L,
+            "cat", 2L,
+            "dog", 4L,
+            "café", 6L,
+            "ação", 3L,
+            "açúcar", 8L));
+
+    @Test
+    void suggestsTheMostPopularWordsUnderThePrefix() {
+        // Empate de pontuação: ordem alfabética
+        assertThat(suggest("ca", 10)).containsExactly("card", "care", "cart");
+        assertThat(suggest("car", 2)).containsExactly("card", "care");
+        assertThat(suggest("care", 10)).containsExactly("care", "careful");
+        assertThat(suggest("careful", 10)).containsExactly("careful");
+        assertThat(suggest("d", 10)).containsExactly("dog");
+    }
+
+    @Test
+    void returnsNothingForAnUnknownPrefix() {
+        assertThat(suggest("cz", 10)).isEmpty();
+        assertThat(suggest("carefully", 10)).isEmpty();
+        assertThat(suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    void handlesNonAsciiLetters() {
+        assertThat(suggest("caf", 10)).containsExactly("café");
+        assertThat(suggest("aç", 10)).containsExactly("açúcar", "ação");
+        assertThat(suggest("açã", 10)).containsExactly("ação");
+        assertThat(suggest("ac", 10)).isEmpty();
+    }
+
+    @Test
+    void anEmptyPrefixReturnsTheOverallTop() {
+        assertThat(suggest("", 10)).containsExactly("card", "care", "açúcar");
+        assertThat(trie.size()).isEqualTo(10);
+    }
+
+    @Test
+    void aRebuildReflectsNewScores() {
+        PrefixTrie rebuilt = build(Map.of("car", 50L, "card", 9L, "care", 9L, "cart", 7L, "cat", 20L));
+
+        List<String> result = new ArrayList<>();
+        rebuilt.suggest("ca", 10, result);
+        assertThat(result).containsExactly("car", "cat", "card");
+    }
+
+    @Test
+    void anEmptyTrieSuggestsNothing() {
+        List<String> result = new ArrayList<>();
+        PrefixTrie.build(new String[0], new long[0], MAX_SUGGESTIONS).suggest("", 10, result);
+        assertThat(result).isEmpty();
+    }
+
+    private List<String> suggest(String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        trie.suggest(prefix, limit, result);
+        return result;
+    }
+
+    private static PrefixTrie build(Map<String, Long> scores) {
+        TreeMap<String, Long> sorted = new TreeMap<>(scores);
+        String[] words = sorted.keySet().toArray(new String[0]);
+        long[] values = sorted.values().stream().mapToLong(Long::longValue).toArray();
+        assertThat(words).isSorted();
+        return PrefixTrie.build(Arrays.copyOf(words, words.length), values, MAX_SUGGESTIONS);
+    }
+}
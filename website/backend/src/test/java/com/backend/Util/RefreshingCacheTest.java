@@ -0,0 +1,174 @@
+package com.backend.Util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ciclo de vida do stale-while-revalidate com relógio falso: TTL suave de 10 min, rígido de 1 h e
+ * carência de 1 dia. As atualizações em segundo plano ficam na fila até o teste executá-las.
+ */
+class RefreshingCacheTest {
+
+    private static final Duration SOFT_TTL = Duration.ofMinutes(10);
+    private static final Duration HARD_TTL = Duration.ofHours(1);
+    private static final Duration GRACE = Duration.ofDays(1);
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.DAYS.toNanos(20_000));
+    private final Ticker ticker = nanos::get;
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final RateLimiter limiter = mock(RateLimiter.class);
+    private final AtomicInteger loads = new AtomicInteger();
+    private RefreshingCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        when(limiter.acquirePermission()).thenReturn(true);
+        Cache<String, Timestamped<String>> caffeine = Caffeine.newBuilder()
+                .ticker(ticker)
+                .expireAfter(RefreshingCache.<String>expiry(HARD_TTL.plus(GRACE), ticker))
+                .build();
+        cache = new RefreshingCache<>("teste", caffeine, SOFT_TTL, HARD_TTL, GRACE, scheduled::add, limiter, ticker);
+    }
+
+    @Test
+    void servesAFreshValueWithoutReloading() {
+        assertThat(cache.get("casa", version("v1"))).isEqualTo("v1");
+        advance(SOFT_TTL.minusSeconds(1));
+
+        assertThat(cache.get("casa", version("v2"))).isEqualTo("v1");
+        assertThat(cache.getIfFresh("casa")).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    void servesAStaleValueAndRefreshesItOnceInTheBackground() {
+        cache.get("casa", version("v1"));
+        advance(SOFT_TTL.plusSeconds(1));
+
+        assertThat(cache.get("casa", version("v2"))).isEqualTo("v1");
+        assertThat(cache.get("casa", version("v2"))).isEqualTo("v1");
+        assertThat(cache.getIfServable("casa", version("v2"))).isEqualTo("v1");
+        assertThat(cache.getIfFresh("casa")).isNull();
+        // Uma atualização só, por mais leituras que cheguem enquanto ela está pendente
+        assertThat(scheduled).hasSize(1);
+        assertThat(loads).hasValue(1);
+
+        runScheduled();
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get("casa", version("v3"))).isEqualTo("v2");
+        assertThat(cache.getIfFresh("casa")).isEqualTo("v2");
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    void skipsTheRefreshWhenTheRateLimiterDeniesIt() {
+        cache.get("casa", version("v1"));
+        advance(SOFT_TTL.plusSeconds(1));
+        when(limiter.acquirePermission()).thenReturn(false, true);
+
+        assertThat(cache.get("casa", version("v2"))).isEqualTo("v1");
+        assertThat(scheduled).isEmpty();
+
+        // A chave não ficou presa: a leitura seguinte consegue a permissão e agenda
+        assertThat(cache.get("casa", version("v2"))).isEqualTo("v1");
+        assertThat(scheduled).hasSize(1);
+    }
+
+    @Test
+    void keepsTheStaleValueWhenTheBackgroundRefreshFails() {
+        cache.get("casa", version("v1"));
+        advance(SOFT_TTL.plusSeconds(1));
+
+        cache.get("casa", failing());
+        runScheduled();
+
+        assertThat(cache.get("casa", version("v2"))).isEqualTo("v1");
+        // A falha liberou a chave para uma nova tentativa
+        assertThat(scheduled).hasSize(1);
+    }
+
+    @Test
+    void servesTheStaleValueWithinGraceWhenTheReloadFails() {
+        cache.get("casa", version("v1"));
+        advance(HARD_TTL.plusMinutes(5));
+
+        assertThat(cache.get("casa", failing())).isEqualTo("v1");
+        assertThat(cache.getIfServable("casa", version("v2"))).isNull();
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    void reloadsSynchronouslyOnceTheHardTtlHasPassed() {
+        cache.get("casa", version("v1"));
+        advance(HARD_TTL.plusMinutes(5));
+
+        assertThat(cache.get("casa", version("v2"))).isEqualTo("v2");
+        assertThat(loads).hasValue(2);
+        assertThat(scheduled).isEmpty();
+        assertThat(cache.getIfFresh("casa")).isEqualTo("v2");
+    }
+
+    @Test
+    void dropsTheValueAfterTheGracePeriod() {
+        cache.get("casa", version("v1"));
+        advance(HARD_TTL.plus(GRACE).plusSeconds(1));
+
+        assertThat(cache.getIfPresent("casa")).isNull();
+        assertThatThrownBy(() -> cache.get("casa", failing())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void restoreKeepsTheOriginalAgeAndSkipsExpiredValues() {
+        long now = TimeUnit.NANOSECONDS.toMillis(nanos.get());
+        cache.restore("velho", "v1", now - HARD_TTL.plus(GRACE).toMillis());
+        cache.restore("morno", "v1", now - SOFT_TTL.plusMinutes(1).toMillis());
+
+        assertThat(cache.getIfPresent("velho")).isNull();
+        assertThat(cache.getIfFresh("morno")).isNull();
+        assertThat(cache.get("morno", version("v2"))).isEqualTo("v1");
+        assertThat(scheduled).hasSize(1);
+    }
+
+    private Function<String, String> version(String value) {
+        return key -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private Function<String, String> failing() {
+        return key -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("origem fora do ar");
+        };
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
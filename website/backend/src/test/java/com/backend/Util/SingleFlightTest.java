@@ -0,0 +1,169 @@
+package com.backend.Util;
+
+import com.backend.exception.DeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final List<Thread> threads = new ArrayList<>();
+
+    @AfterEach
+    void stopThreads() {
+        release.countDown();
+        threads.forEach(Thread::interrupt);
+    }
+
+    @Test
+    void concurrentCallersShareASingleInvocation() throws Exception {
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(call(() -> flights.execute("casa", blocked(() -> "house"))));
+        }
+        awaitAllWaiting();
+
+        release.countDown();
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("house");
+        }
+        assertThat(invocations).hasValue(1);
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    @Test
+    void theLeadersExceptionReachesEveryFollower() throws Exception {
+        IllegalArgumentException failure = new IllegalArgumentException("palavra inválida");
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(call(() -> flights.execute("casa", blocked(() -> {
+                throw failure;
+            }))));
+        }
+        awaitAllWaiting();
+
+        release.countDown();
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result).failsWithin(Duration.ofSeconds(5))
+                    .withThrowableOfType(Exception.class)
+                    .havingCause()
+                    .isSameAs(failure);
+        }
+        assertThat(invocations).hasValue(1);
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    @Test
+    void aFollowerWithTimeLeftRetriesAfterTheLeadersDeadline() throws Exception {
+        CompletableFuture<String> leader = call(() -> flights.execute("casa", blocked(() -> {
+            throw new DeadlineExceededException("Prazo de 10 ms da requisição esgotado");
+        })));
+        awaitAllWaiting();
+        CompletableFuture<String> follower = call(() -> {
+            try (Deadline.Scope attached = Deadline.attach(Deadline.after(Duration.ofSeconds(30)))) {
+                return flights.execute("casa", () -> {
+                    invocations.incrementAndGet();
+                    return "house";
+                });
+            }
+        });
+        awaitAllWaiting();
+
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("house");
+        assertThat(leader).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(Exception.class)
+                .havingCause()
+                .isInstanceOf(DeadlineExceededException.class);
+        // Uma execução do líder e outra do seguidor, que assumiu a chave
+        assertThat(invocations).hasValue(2);
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    @Test
+    void aFollowerGivesUpWhenItsOwnDeadlineEnds() throws Exception {
+        CompletableFuture<String> leader = call(() -> flights.execute("casa", blocked(() -> "house")));
+        awaitAllWaiting();
+
+        try (Deadline.Scope attached = Deadline.attach(Deadline.after(Duration.ofMillis(50)))) {
+            assertThatThrownBy(() -> flights.execute("casa", () -> "outra"))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasMessage("Prazo de 50 ms da requisição esgotado");
+        }
+        // A execução do líder segue intacta
+        assertThat(flights.inFlightCount()).isEqualTo(1);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("house");
+    }
+
+    @Test
+    void theKeyIsReleasedAfterEachExecution() {
+        assertThat(flights.execute("casa", () -> "house")).isEqualTo("house");
+        assertThat(flights.inFlightCount()).isZero();
+
+        assertThatThrownBy(() -> flights.execute("casa", () -> {
+            throw new IllegalStateException("falhou");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(flights.inFlightCount()).isZero();
+
+        // Sem resultado guardado: a chamada seguinte executa de novo
+        assertThat(flights.execute("casa", () -> "home")).isEqualTo("home");
+    }
+
+    // Conta a execução e só termina quando o teste liberar
+    private Supplier<String> blocked(Supplier<String> result) {
+        return () -> {
+            invocations.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return result.get();
+        };
+    }
+
+    private CompletableFuture<String> call(Supplier<String> body) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(body.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        threads.add(thread);
+        thread.start();
+        return result;
+    }
+
+    // Todas as threads paradas: o líder no supplier e os demais esperando o resultado dele
+    private void awaitAllWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING
+                || thread.getState() == Thread.State.TIMED_WAITING)) {
+            assertThat(System.nanoTime()).as("threads esperando").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
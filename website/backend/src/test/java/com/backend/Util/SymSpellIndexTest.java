@@ -0,0 +1,163 @@
+package com.backend.Util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SymSpellIndexTest {
+
+    private static final int MAX_DISTANCE = 2;
+    private static final int PREFIX_LENGTH = 7;
+    // Alfabeto pequeno para haver muitas palavras parecidas
+    private static final String ALPHABET = "abcdefgh";
+    private static final ToLongFunction<String> NO_SCORE = word -> 0;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void findsTheSameWordsAsABruteForceScan() {
+        String[] words = randomWords(2_000);
+        SymSpellIndex index = SymSpellIndex.build(words, MAX_DISTANCE, PREFIX_LENGTH);
+
+        for (int i = 0; i < 500; i++) {
+            String input = i % 5 == 0 ? randomWord() : typo(words[random.nextInt(words.length)]);
+            assertThat(index.lookup(input, Integer.MAX_VALUE, NO_SCORE))
+                    .as("consulta '%s'", input)
+                    .containsExactlyInAnyOrderElementsOf(bruteForce(words, input));
+        }
+    }
+
+    @Test
+    void addedWordsAreFoundLikeInAFullBuild() {
+        String[] words = randomWords(1_000);
+        String[] initial = Arrays.copyOf(words, 600);
+        String[] added = Arrays.copyOfRange(words, 600, words.length);
+        SymSpellIndex before = SymSpellIndex.build(initial, MAX_DISTANCE, PREFIX_LENGTH);
+
+        SymSpellIndex merged = before.withWords(added);
+        SymSpellIndex rebuilt = SymSpellIndex.build(words, MAX_DISTANCE, PREFIX_LENGTH);
+
+        for (int i = 0; i < 300; i++) {
+            String input = typo(words[random.nextInt(words.length)]);
+            List<String> expected = rebuilt.lookup(input, Integer.MAX_VALUE, NO_SCORE);
+            assertThat(merged.lookup(input, Integer.MAX_VALUE, NO_SCORE)).as("consulta '%s'", input)
+                    .containsExactlyElementsOf(expected);
+            // O índice anterior continua só com as palavras iniciais
+            assertThat(before.lookup(input, Integer.MAX_VALUE, NO_SCORE))
+                    .containsExactlyInAnyOrderElementsOf(bruteForce(initial, input));
+        }
+        assertThat(before.withWords(new String[0])).isSameAs(before);
+    }
+
+    @Test
+    void ordersByDistanceThenByTheCurrentScore() {
+        SymSpellIndex index = SymSpellIndex.build(new String[]{"house", "horse", "mouse", "hose", "houses", "hours"},
+                MAX_DISTANCE, PREFIX_LENGTH);
+        Map<String, Long> scores = new HashMap<>(Map.of("horse", 5L, "mouse", 1L, "hose", 3L, "houses", 9L));
+        ToLongFunction<String> score = word -> scores.getOrDefault(word, 0L);
+
+        // A própria palavra fica de fora; distância 1 antes de distância 2
+        assertThat(index.lookup("house", 10, score)).containsExactly("houses", "horse", "hose", "mouse", "hours");
+
+        // A pontuação é lida na consulta: sem reconstruir o índice
+        scores.put("mouse", 10L);
+        assertThat(index.lookup("house", 10, score)).containsExactly("mouse", "houses", "horse", "hose", "hours");
+        assertThat(index.lookup("house", 2, score)).containsExactly("mouse", "houses");
+    }
+
+    @Test
+    void distanceCountsATranspositionAsOneEdit() {
+        assertThat(SymSpellIndex.distance("house", "hosue", MAX_DISTANCE)).isEqualTo(1);
+        assertThat(SymSpellIndex.distance("house", "house", MAX_DISTANCE)).isZero();
+        assertThat(SymSpellIndex.distance("ca", "abc", MAX_DISTANCE)).isEqualTo(MAX_DISTANCE + 1);
+        assertThat(SymSpellIndex.distance("house", "h", MAX_DISTANCE)).isEqualTo(MAX_DISTANCE + 1);
+    }
+
+    private List<String> bruteForce(String[] words, String input) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String word : words) {
+            int distance = optimalStringAlignment(input, word);
+            if (distance > 0 && distance <= MAX_DISTANCE) {
+                result.add(word);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    // Damerau-Levenshtein (alinhamento ótimo de strings) com a matriz inteira, sem atalhos
+    private static int optimalStringAlignment(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    private String[] randomWords(int count) {
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < count) {
+            words.add(randomWord());
+        }
+        return words.toArray(String[]::new);
+    }
+
+    private String randomWord() {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            word.append(randomLetter());
+        }
+        return word.toString();
+    }
+
+    // Uma ou duas edições aleatórias: troca, inserção, remoção ou transposição
+    private String typo(String word) {
+        StringBuilder typo = new StringBuilder(word);
+        int edits = 1 + random.nextInt(MAX_DISTANCE);
+        for (int e = 0; e < edits; e++) {
+            int position = random.nextInt(typo.length());
+            switch (random.nextInt(4)) {
+                case 0 -> typo.setCharAt(position, randomLetter());
+                case 1 -> typo.insert(position, randomLetter());
+                case 2 -> {
+                    if (typo.length() > 1) {
+                        typo.deleteCharAt(position);
+                    }
+                }
+                default -> {
+                    if (position + 1 < typo.length()) {
+                        char letter = typo.charAt(position);
+                        typo.setCharAt(position, typo.charAt(position + 1));
+                        typo.setCharAt(position + 1, letter);
+                    }
+                }
+            }
+        }
+        return typo.toString();
+    }
+
+    private char randomLetter() {
+        return ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.backend.Util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * O caminho SIMD só roda com o módulo incubador na JVM dos testes:
+ * {@code mvn test -Dtest=VectorMathTest -DargLine="--add-modules jdk.incubator.vector"}.
+ */
+class VectorMathTest {
+
+    private final Random random = new Random(7);
+
+    @Test
+    void scalarDotMatchesANaiveLoop() {
+        // Tamanhos que não são múltiplos de 4 passam pelo laço do resto
+        for (int length = 0; length <= 37; length++) {
+            float[] a = randomVector(length + 3);
+            float[] b = randomVector(length + 5);
+            assertThat(VectorMath.scalarDot(a, 3, b, 5, length))
+                    .as("tamanho %d", length)
+                    .isCloseTo(naiveDot(a, 3, b, 5, length), within(1e-4f));
+        }
+    }
+
+    @Test
+    void dotMatchesANaiveLoopWhicheverPathIsActive() {
+        for (int length : new int[]{1, 3, 4, 7, 8, 15, 16, 17, 100, 300}) {
+            float[] a = randomVector(length);
+            float[] b = randomVector(length);
+            assertThat(VectorMath.dot(a, 0, b, 0, length))
+                    .as("tamanho %d", length)
+                    .isCloseTo(naiveDot(a, 0, b, 0, length), within(1e-3f));
+        }
+    }
+
+    @Test
+    void simdAndScalarAgree() {
+        assumeTrue(VectorMath.isSimdEnabled(), "módulo jdk.incubator.vector ausente");
+        for (int length = 0; length <= 300; length += 7) {
+            float[] a = randomVector(length + 2);
+            float[] b = randomVector(length + 1);
+            assertThat(VectorMath.dot(a, 2, b, 1, length))
+                    .as("tamanho %d", length)
+                    .isCloseTo(VectorMath.scalarDot(a, 2, b, 1, length), within(1e-3f));
+        }
+    }
+
+    private float[] randomVector(int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+
+    private static float naiveDot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += (double) a[aOffset + i] * b[bOffset + i];
+        }
+        return (float) sum;
+    }
+}
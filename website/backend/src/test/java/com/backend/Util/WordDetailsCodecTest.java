@@ -0,0 +1,67 @@
+package com.backend.Util;
+
+import com.backend.dto.DefinitionDTO;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.WordDetailsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WordDetailsCodecTest {
+
+    @Test
+    void roundTripsACompleteRecord() throws IOException {
+        WordDetailsDTO details = new WordDetailsDTO("run", "/ɹʌn/", List.of(
+                new MeaningDTO("verb", List.of(
+                        new DefinitionDTO("To move quickly on foot.", "She runs every morning."),
+                        new DefinitionDTO("To operate a machine.", null)),
+                        List.of("sprint", "jog")),
+                new MeaningDTO("noun", List.of(new DefinitionDTO("An act of running.", null)), List.of())),
+                "correr");
+
+        assertThat(roundTrip(details)).isEqualTo(details);
+    }
+
+    @Test
+    void keepsNullsApartFromEmptyValues() throws IOException {
+        WordDetailsDTO details = new WordDetailsDTO("café", null, List.of(
+                new MeaningDTO(null, null, null),
+                new MeaningDTO("", List.of(new DefinitionDTO("", null)), List.of(""))),
+                null);
+
+        assertThat(roundTrip(details)).isEqualTo(details);
+        WordDetailsDTO withoutMeanings = new WordDetailsDTO("x", null, null, null);
+        assertThat(roundTrip(withoutMeanings)).isEqualTo(withoutMeanings);
+    }
+
+    @Test
+    void readsConsecutiveRecordsFromOneStream() throws IOException {
+        WordDetailsDTO first = new WordDetailsDTO("apple", "/ˈæp.əl/", List.of(), null);
+        WordDetailsDTO second = new WordDetailsDTO("zebra", null, List.of(), "zebra");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        WordDetailsCodec.write(out, first);
+        WordDetailsCodec.write(out, second);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(WordDetailsCodec.read(in)).isEqualTo(first);
+        assertThat(WordDetailsCodec.read(in)).isEqualTo(second);
+        // Registro truncado: erro de leitura em vez de um DTO pela metade
+        assertThatThrownBy(() -> WordDetailsCodec.read(in)).isInstanceOf(EOFException.class);
+    }
+
+    private static WordDetailsDTO roundTrip(WordDetailsDTO details) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WordDetailsCodec.write(new DataOutputStream(bytes), details);
+        return WordDetailsCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
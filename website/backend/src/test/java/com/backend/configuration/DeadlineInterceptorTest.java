@@ -0,0 +1,116 @@
+package com.backend.configuration;
+
+import com.backend.Util.Deadline;
+import com.backend.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @RequestDeadline de ponta a ponta: o interceptor cria o prazo, o executor o repassa à tarefa,
+ * o fim do prazo interrompe a tarefa e a resposta sai como 504 pelo GlobalExceptionHandler.
+ */
+class DeadlineInterceptorTest {
+
+    private static final Duration DEFAULT_BUDGET = Duration.ofSeconds(7);
+
+    private final ExecutorService executor = new DeadlinePropagatingExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    private final SlowController controller = new SlowController(executor);
+    private DeadlineInterceptor interceptor;
+    private MockMvc mockMvc;
+
+    @RestController
+    static class SlowController {
+
+        private final ExecutorService executor;
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        SlowController(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @GetMapping("/slow")
+        @RequestDeadline("${test.deadline.slow:200ms}")
+        CompletableFuture<String> slow() {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    Thread.sleep(Duration.ofSeconds(30));
+                    return "tarde demais";
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Deadline.checkCurrent();
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+        }
+
+        // Orçamento que a tarefa enxerga (o padrão, sem @RequestDeadline)
+        @GetMapping("/budget")
+        CompletableFuture<String> budget() {
+            return CompletableFuture.supplyAsync(() -> Long.toString(Deadline.current().getBudget().toMillis()), executor);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new DeadlineInterceptor(new MockEnvironment().withProperty("test.deadline.slow", "300ms"), DEFAULT_BUDGET);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(interceptor)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        interceptor.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void answers504AndInterruptsTheWorkOnceTheBudgetRunsOut() throws Exception {
+        long start = System.nanoTime();
+        MvcResult result = mockMvc.perform(get("/slow"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.message").value("Prazo de 300 ms da requisição esgotado"));
+        assertThat(controller.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void propagatesTheDefaultBudgetToTheTask() throws Exception {
+        MvcResult result = mockMvc.perform(get("/budget"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Long.toString(DEFAULT_BUDGET.toMillis())));
+        // A thread do servlet volta sem o prazo
+        assertThat(Deadline.current()).isNull();
+    }
+}
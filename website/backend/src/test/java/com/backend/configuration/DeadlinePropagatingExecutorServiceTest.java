@@ -0,0 +1,85 @@
+package com.backend.configuration;
+
+import com.backend.Util.Deadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlinePropagatingExecutorServiceTest {
+
+    // Uma thread só: a tarefa seguinte roda na mesma thread da anterior
+    private final DeadlinePropagatingExecutorService executor =
+            new DeadlinePropagatingExecutorService(Executors.newSingleThreadExecutor());
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runsTheTaskWithTheSubmittersDeadline() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        CompletableFuture<Deadline> seen;
+        try (Deadline.Scope attached = Deadline.attach(deadline)) {
+            seen = CompletableFuture.supplyAsync(Deadline::current, executor);
+        }
+
+        assertThat(seen.get(5, TimeUnit.SECONDS)).isSameAs(deadline);
+        // Sem prazo de quem submete, a tarefa também roda sem prazo (e a thread não ficou com o anterior)
+        assertThat(CompletableFuture.supplyAsync(Deadline::current, executor).get(5, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void cancellingTheDeadlineInterruptsTheRunningTask() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> interrupted;
+        try (Deadline.Scope attached = Deadline.attach(deadline)) {
+            interrupted = CompletableFuture.supplyAsync(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(Duration.ofSeconds(30));
+                    return false;
+                } catch (InterruptedException e) {
+                    return true;
+                }
+            }, executor);
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        deadline.cancel();
+
+        assertThat(interrupted.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void tasksSubmittedAfterTheCancellationStartInterrupted() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        deadline.cancel();
+        CompletableFuture<Boolean> interrupted;
+        try (Deadline.Scope attached = Deadline.attach(deadline)) {
+            interrupted = CompletableFuture.supplyAsync(() -> Thread.currentThread().isInterrupted(), executor);
+        }
+
+        assertThat(interrupted.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void theInterruptDoesNotLeakIntoTheNextTask() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        deadline.cancel();
+        try (Deadline.Scope attached = Deadline.attach(deadline)) {
+            CompletableFuture.runAsync(() -> { }, executor).get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(CompletableFuture.supplyAsync(() -> Thread.currentThread().isInterrupted(), executor)
+                .get(5, TimeUnit.SECONDS)).isFalse();
+    }
+}
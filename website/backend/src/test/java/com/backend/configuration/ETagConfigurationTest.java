@@ -0,0 +1,186 @@
+package com.backend.configuration;
+
+import com.backend.domain.Course;
+import com.backend.domain.Difficulty;
+import com.backend.domain.User;
+import com.backend.domain.UserRole;
+import com.backend.persistence.CourseRepository;
+import com.backend.persistence.UserRepository;
+import com.backend.service.TokenService;
+import com.backend.support.OfflineTestConfiguration;
+import com.backend.support.StubUpstreamServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * ShallowEtagHeaderFilter com a aplicação inteira (segurança incluída): GET repetido com If-None-Match
+ * vira 304 para palavras, cursos e RDF, e as respostas em fluxo (SSE e NDJSON) não ficam presas no
+ * buffer do filtro nem ganham ETag.
+ */
+@SpringBootTest(properties = {
+        "semantic.lexemes.remote-fallback=false",
+        "semantic.stream.timeout=1m",
+        "semantic.deadline.semantic-network-stream=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("offline")
+@Import(OfflineTestConfiguration.class)
+class ETagConfigurationTest {
+
+    private static final long ASYNC_TIMEOUT_MILLIS = Duration.ofSeconds(30).toMillis();
+
+    private static StubUpstreamServer upstream;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private String token;
+
+    @DynamicPropertySource
+    static void upstreamUrls(DynamicPropertyRegistry registry) {
+        registry.add("dictionary.api.url", () -> upstream().dictionaryUrl());
+        registry.add("translation.api.url", () -> upstream().translationUrl());
+    }
+
+    private static synchronized StubUpstreamServer upstream() {
+        if (upstream == null) {
+            try {
+                upstream = new StubUpstreamServer(Duration.ZERO);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return upstream;
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        if (upstream != null) {
+            upstream.close();
+        }
+    }
+
+    @BeforeEach
+    void signIn() {
+        User user = new User("aluno@englishforalltime.com", "senha", UserRole.USER);
+        when(userRepository.findByLogin(anyString())).thenReturn(user);
+        token = tokenService.generateToken(user);
+
+        Course course = new Course();
+        course.setId(7L);
+        course.setTitle("Phrasal verbs");
+        course.setDescription("Verbos com partícula");
+        course.setDifficulty(Difficulty.values()[0]);
+        course.setCreatedAt(LocalDateTime.of(2025, 1, 15, 10, 0));
+        when(courseRepository.findAll(any(Sort.class))).thenReturn(List.of(course));
+        when(courseRepository.findById(7L)).thenReturn(Optional.of(course));
+    }
+
+    @Test
+    void answers304ForARepeatedWordLookup() throws Exception {
+        assertNotModifiedOnRepeat(get("/api/dictionary/harbour"));
+    }
+
+    @Test
+    void answers304ForRepeatedCourseReads() throws Exception {
+        assertNotModifiedOnRepeat(authenticated(get("/api/courses")));
+        assertNotModifiedOnRepeat(authenticated(get("/api/courses/7")));
+    }
+
+    @Test
+    void answers304ForARepeatedRdfDownload() throws Exception {
+        assertNotModifiedOnRepeat(authenticated(get("/data/word/harbour.ttl")));
+    }
+
+    @Test
+    void doesNotBufferTheSemanticNetworkStream() throws Exception {
+        MvcResult result = mockMvc.perform(authenticated(get("/api/semantic/semantic-network/lantern/stream"))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(ASYNC_TIMEOUT_MILLIS);
+
+        // Os eventos já estão na resposta de verdade, sem passar pelo buffer do filtro
+        assertThat(result.getResponse().getContentAsString()).contains("event:network");
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void doesNotBufferTheNdjsonBatch() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/dictionary/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.parseMediaType("application/x-ndjson"))
+                        .content("{\"words\": [\"harbour\", \"lantern\"]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(ASYNC_TIMEOUT_MILLIS);
+
+        assertThat(result.getResponse().getContentAsString().lines()).hasSize(2);
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private void assertNotModifiedOnRepeat(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult first = perform(request);
+        assertThat(first.getResponse().getStatus()).isEqualTo(200);
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        MvcResult repeated = perform(request.header(HttpHeaders.IF_NONE_MATCH, eTag));
+        assertThat(repeated.getResponse().getStatus()).isEqualTo(304);
+        assertThat(repeated.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(repeated.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+    }
+
+    // Completa o despacho assíncrono quando o controller devolve CompletableFuture
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result.getAsyncResult(ASYNC_TIMEOUT_MILLIS);
+            return mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static com.backend.configuration.HttpClientPoolEnvironmentPostProcessor.KEEP_ALIVE_PROPERTY;
+import static com.backend.configuration.HttpClientPoolEnvironmentPostProcessor.POOL_SIZE_PROPERTY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientPoolEnvironmentPostProcessorTest {
+
+    private final HttpClientPoolEnvironmentPostProcessor postProcessor = new HttpClientPoolEnvironmentPostProcessor();
+    private String keepAlive;
+    private String poolSize;
+
+    @BeforeEach
+    void saveProperties() {
+        keepAlive = System.clearProperty(KEEP_ALIVE_PROPERTY);
+        poolSize = System.clearProperty(POOL_SIZE_PROPERTY);
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        restore(KEEP_ALIVE_PROPERTY, keepAlive);
+        restore(POOL_SIZE_PROPERTY, poolSize);
+    }
+
+    @Test
+    void setsTheJdkPropertiesFromTheApplicationProperties() {
+        postProcessor.postProcessEnvironment(new MockEnvironment()
+                .withProperty("semantic.http.keep-alive", "2m")
+                .withProperty("semantic.http.pool-size", "64"), new SpringApplication());
+
+        assertThat(System.getProperty(KEEP_ALIVE_PROPERTY)).isEqualTo("120");
+        assertThat(System.getProperty(POOL_SIZE_PROPERTY)).isEqualTo("64");
+    }
+
+    @Test
+    void keepsPropertiesGivenOnTheCommandLine() {
+        System.setProperty(KEEP_ALIVE_PROPERTY, "5");
+
+        postProcessor.postProcessEnvironment(new MockEnvironment()
+                .withProperty("semantic.http.keep-alive", "30s"), new SpringApplication());
+
+        assertThat(System.getProperty(KEEP_ALIVE_PROPERTY)).isEqualTo("5");
+        assertThat(System.getProperty(POOL_SIZE_PROPERTY)).isNull();
+    }
+
+    private static void restore(String name, String value) {
+        if (value == null) {
+            System.clearProperty(name);
+        } else {
+            System.setProperty(name, value);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.backend.controller;
+
+import com.backend.dto.BatchLookupResultDTO;
+import com.backend.support.OfflineTestConfiguration;
+import com.backend.support.StubUpstreamServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * POST /api/dictionary/batch com o dicionário e o MyMemory locais: uma linha NDJSON por palavra
+ * distinta (já normalizada), com o erro da palavra no lugar dos detalhes quando ela não existe.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "semantic.batch.max-words=" + DictionaryBatchTest.MAX_WORDS,
+        "semantic.lexemes.remote-fallback=false"
+})
+@ActiveProfiles("offline")
+@Import(OfflineTestConfiguration.class)
+class DictionaryBatchTest {
+
+    static final int MAX_WORDS = 5;
+
+    private static StubUpstreamServer upstream;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void upstreamUrls(DynamicPropertyRegistry registry) {
+        registry.add("dictionary.api.url", () -> upstream().dictionaryUrl());
+        registry.add("translation.api.url", () -> upstream().translationUrl());
+    }
+
+    private static synchronized StubUpstreamServer upstream() {
+        if (upstream == null) {
+            try {
+                upstream = new StubUpstreamServer(Duration.ZERO);
+                upstream.addMissingWords("zzqx");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return upstream;
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        if (upstream != null) {
+            upstream.close();
+        }
+    }
+
+    @Test
+    void streamsOneLinePerDistinctNormalizedWord() throws Exception {
+        HttpResponse<String> response = post(List.of("Run", " run ", "harbour", "", "zzqx", "HARBOUR"));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                contentType -> assertThat(contentType).startsWith("application/x-ndjson"));
+        List<String> lines = response.body().lines().toList();
+        assertThat(lines).hasSize(3);
+
+        Map<String, BatchLookupResultDTO> results = new HashMap<>();
+        for (String line : lines) {
+            BatchLookupResultDTO result = objectMapper.readValue(line, BatchLookupResultDTO.class);
+            results.put(result.word(), result);
+        }
+        assertThat(results).containsOnlyKeys("run", "harbour", "zzqx");
+        assertThat(results.get("run").error()).isNull();
+        assertThat(results.get("run").details().meanings().get(0).definitions().get(0).definition())
+                .isEqualTo("Definition of run.");
+        assertThat(results.get("harbour").details().translation()).isEqualTo("tradução de harbour");
+        // A palavra desconhecida não derruba o lote: vira uma linha com o erro
+        assertThat(results.get("zzqx").details()).isNull();
+        assertThat(results.get("zzqx").error()).isEqualTo("Palavra não encontrada no dicionário");
+    }
+
+    @Test
+    void rejectsBatchesOverTheLimitOrWithoutWords() throws Exception {
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= MAX_WORDS; i++) {
+            tooMany.add("word" + i);
+        }
+        assertThat(post(tooMany).statusCode()).isEqualTo(400);
+        assertThat(post(List.of(" ", "")).statusCode()).isEqualTo(400);
+
+        // O limite vale para as palavras distintas depois de normalizadas
+        List<String> repeated = new ArrayList<>(tooMany.subList(0, MAX_WORDS));
+        repeated.add("WORD0");
+        HttpResponse<String> response = post(repeated);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body().lines().map(this::word).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrderElementsOf(tooMany.subList(0, MAX_WORDS));
+    }
+
+    private String word(String line) {
+        try {
+            return objectMapper.readValue(line, BatchLookupResultDTO.class).word();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpResponse<String> post(List<String> words) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/dictionary/batch"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/x-ndjson")
+                .timeout(Duration.ofMinutes(1))
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("words", words))))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
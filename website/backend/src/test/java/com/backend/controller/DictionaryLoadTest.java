@@ -0,0 +1,182 @@
+package com.backend.controller;
+
+import com.backend.support.OfflineTestConfiguration;
+import com.backend.support.StubUpstreamServer;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Buscas simultâneas em /api/dictionary/{word} com o dicionário e o MyMemory demorando
+ * UPSTREAM_DELAY para responder e o Tomcat limitado a MAX_SERVLET_THREADS threads. Como a busca
+ * roda no semanticExecutor e a thread do servlet é liberada enquanto as APIs respondem, há mais
+ * chamadas às APIs em andamento que threads do servlet; no benchmark (1.000 buscas), a vazão tem
+ * de passar bem do limite de uma thread por requisição (MAX_SERVLET_THREADS / UPSTREAM_DELAY).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=" + DictionaryLoadTest.MAX_SERVLET_THREADS,
+        "server.tomcat.accept-count=" + DictionaryLoadTest.BENCHMARK_REQUESTS,
+        "semantic.http.max-requests-per-host=" + 2 * DictionaryLoadTest.BENCHMARK_REQUESTS,
+        "resilience4j.bulkhead.instances.dictionary.max-concurrent-calls=" + DictionaryLoadTest.BENCHMARK_REQUESTS,
+        "resilience4j.bulkhead.instances.translation.max-concurrent-calls=" + DictionaryLoadTest.BENCHMARK_REQUESTS,
+        // Prazos folgados: aqui só interessa a vazão, mesmo numa máquina com um único processador
+        "semantic.deadline.word-details=2m",
+        "semantic.timeout.definitions=1m",
+        "semantic.timeout.translation=1m",
+        "semantic.http.connect-timeout=1m",
+        "semantic.http.read-timeout=1m",
+        "resilience4j.circuitbreaker.instances.dictionary.slow-call-duration-threshold=1m",
+        "resilience4j.circuitbreaker.instances.translation.slow-call-duration-threshold=1m",
+        "logging.level.com.backend=WARN",
+        "logging.level.com.backend.controller.DictionaryLoadTest=INFO",
+        "app.debug.enabled=false"
+})
+@ActiveProfiles("offline")
+@Import(OfflineTestConfiguration.class)
+@Slf4j
+class DictionaryLoadTest {
+
+    static final int REQUESTS = 100;
+    static final int BENCHMARK_REQUESTS = 1000;
+    static final int MAX_SERVLET_THREADS = 10;
+    private static final int WARMUP_REQUESTS = 50;
+    private static final Duration UPSTREAM_DELAY = Duration.ofSeconds(1);
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static StubUpstreamServer upstream;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @DynamicPropertySource
+    static void upstreamUrls(DynamicPropertyRegistry registry) {
+        registry.add("dictionary.api.url", () -> upstream().dictionaryUrl());
+        registry.add("translation.api.url", () -> upstream().translationUrl());
+    }
+
+    private static synchronized StubUpstreamServer upstream() {
+        if (upstream == null) {
+            try {
+                upstream = new StubUpstreamServer(UPSTREAM_DELAY);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return upstream;
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        if (upstream != null) {
+            upstream.close();
+        }
+    }
+
+    private record Run(Duration elapsed, int peakBusyServletThreads, int dictionaryRequests) {
+    }
+
+    @Test
+    void servesConcurrentLookupsWithoutHoldingServletThreads() throws Exception {
+        Run run = lookUpConcurrently("word", REQUESTS);
+
+        assertThat(run.dictionaryRequests()).isEqualTo(REQUESTS);
+        assertThat(run.peakBusyServletThreads()).isLessThanOrEqualTo(MAX_SERVLET_THREADS);
+        // As chamadas às APIs esperam fora das threads do servlet: há mais delas ao mesmo tempo que threads
+        assertThat(upstream.peakInFlight()).isGreaterThan(MAX_SERVLET_THREADS);
+    }
+
+    // Vazão medida: depende da máquina, por isso fica fora do mvn test (perfil benchmarks)
+    @Test
+    @Tag("benchmark")
+    void exceedsTheOneThreadPerRequestThroughput() throws Exception {
+        Run run = lookUpConcurrently("benchmark", BENCHMARK_REQUESTS);
+
+        double throughput = BENCHMARK_REQUESTS * 1000.0 / run.elapsed().toMillis();
+        double blockingLimit = MAX_SERVLET_THREADS * 1000.0 / UPSTREAM_DELAY.toMillis();
+        log.info("{} buscas em {} ms ({} req/s; limite com uma thread por requisição: {} req/s); "
+                        + "pico de {} threads do servlet ocupadas (máximo {}); pico de {} chamadas simultâneas às APIs",
+                BENCHMARK_REQUESTS, run.elapsed().toMillis(), Math.round(throughput), Math.round(blockingLimit),
+                run.peakBusyServletThreads(), MAX_SERVLET_THREADS, upstream.peakInFlight());
+
+        assertThat(run.dictionaryRequests()).isEqualTo(BENCHMARK_REQUESTS);
+        assertThat(throughput).isGreaterThan(2 * blockingLimit);
+    }
+
+    // Aquecimento (JIT, conexões) e depois count buscas simultâneas, amostrando as threads do servlet ocupadas
+    private Run lookUpConcurrently(String prefix, int count) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        for (CompletableFuture<HttpResponse<String>> response : lookUp(client, prefix + "-warmup", WARMUP_REQUESTS)) {
+            assertThat(response.join().statusCode()).isEqualTo(200);
+        }
+
+        ThreadPoolExecutor servletThreads = servletThreads();
+        AtomicInteger peakBusyServletThreads = new AtomicInteger();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (sampling.get()) {
+                peakBusyServletThreads.accumulateAndGet(servletThreads.getActiveCount(), Math::max);
+                LockSupport.parkNanos(SAMPLE_INTERVAL_NANOS);
+            }
+        });
+        int dictionaryRequestsBefore = upstream.dictionaryRequests();
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = lookUp(client, prefix, count);
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(3, TimeUnit.MINUTES);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        sampling.set(false);
+        sampler.join();
+
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertThat(response.join().statusCode()).isEqualTo(200);
+        }
+        return new Run(elapsed, peakBusyServletThreads.get(), upstream.dictionaryRequests() - dictionaryRequestsBefore);
+    }
+
+    // Palavras distintas: nenhuma resposta vem do cache ou de uma busca já em andamento
+    private List<CompletableFuture<HttpResponse<String>>> lookUp(HttpClient client, String prefix, int count) {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/dictionary/" + prefix + i))
+                    .timeout(Duration.ofMinutes(3))
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        return responses;
+    }
+
+    private ThreadPoolExecutor servletThreads() {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        return (ThreadPoolExecutor) webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+    }
+}
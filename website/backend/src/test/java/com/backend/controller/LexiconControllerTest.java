@@ -0,0 +1,99 @@
+package com.backend.controller;
+
+import com.backend.support.OfflineTestConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /api/lexicon/suggest sem autenticação, com a lista de palavras de um arquivo próprio do teste.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("offline")
+@Import(OfflineTestConfiguration.class)
+class LexiconControllerTest {
+
+    private static final String WORDS = """
+            card\t9
+            care\t9
+            cart\t7
+            car\t5
+            café\t6
+            dog\t4
+            """;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void lexicon(DynamicPropertyRegistry registry) {
+        registry.add("semantic.lexicon.path", LexiconControllerTest::writeLexicon);
+    }
+
+    private static String writeLexicon() {
+        try {
+            Path path = Files.createTempFile("lexicon", ".txt");
+            path.toFile().deleteOnExit();
+            Files.writeString(path, WORDS, StandardCharsets.UTF_8);
+            return path.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void suggestsNormalizedPrefixesWithoutAuthentication() throws Exception {
+        assertThat(suggest("?prefix=" + encode("  CA "))).containsExactly("card", "care", "cart", "café", "car");
+        assertThat(suggest("?prefix=" + encode("caf"))).containsExactly("café");
+        assertThat(suggest("?prefix=xyz")).isEmpty();
+    }
+
+    @Test
+    void boundsTheLimit() throws Exception {
+        assertThat(suggest("?prefix=ca&limit=2")).containsExactly("card", "care");
+        assertThat(suggest("?prefix=ca&limit=0")).containsExactly("card");
+        assertThat(suggest("?prefix=c&limit=1000")).hasSize(5);
+    }
+
+    @Test
+    void aBlankPrefixSuggestsNothing() throws Exception {
+        assertThat(suggest("?prefix=" + encode("   "))).isEmpty();
+    }
+
+    private List<String> suggest(String query) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + port + "/api/lexicon/suggest" + query)).build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return List.of(objectMapper.readValue(response.body(), String[].class));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
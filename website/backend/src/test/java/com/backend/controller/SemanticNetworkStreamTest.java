@@ -0,0 +1,151 @@
+package com.backend.controller;
+
+import com.backend.domain.User;
+import com.backend.domain.UserRole;
+import com.backend.persistence.UserRepository;
+import com.backend.service.TokenService;
+import com.backend.support.OfflineTestConfiguration;
+import com.backend.support.StubUpstreamServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rede semântica em Server-Sent Events com o MyMemory bem mais lento que o dicionário: a seção de
+ * definições tem de sair quando o dicionário responde, sem esperar a tradução.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "semantic.timeout.translation=30s",
+        "semantic.deadline.semantic-network-stream=1m",
+        "semantic.stream.timeout=1m",
+        "semantic.lexemes.remote-fallback=false",
+        "resilience4j.circuitbreaker.instances.translation.slow-call-duration-threshold=1m"
+})
+@ActiveProfiles("offline")
+@Import(OfflineTestConfiguration.class)
+class SemanticNetworkStreamTest {
+
+    private static final Duration TRANSLATION_DELAY = Duration.ofSeconds(3);
+
+    private static StubUpstreamServer upstream;
+
+    private record Event(String name, String data, long elapsedMillis) {
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private String token;
+
+    @DynamicPropertySource
+    static void upstreamUrls(DynamicPropertyRegistry registry) {
+        registry.add("dictionary.api.url", () -> upstream().dictionaryUrl());
+        registry.add("translation.api.url", () -> upstream().translationUrl());
+    }
+
+    private static synchronized StubUpstreamServer upstream() {
+        if (upstream == null) {
+            try {
+                upstream = new StubUpstreamServer(Duration.ZERO, TRANSLATION_DELAY);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return upstream;
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        if (upstream != null) {
+            upstream.close();
+        }
+    }
+
+    @BeforeEach
+    void signIn() {
+        User user = new User("aluno@englishforalltime.com", "senha", UserRole.USER);
+        when(userRepository.findByLogin(anyString())).thenReturn(user);
+        token = tokenService.generateToken(user);
+    }
+
+    @Test
+    void sendsDefinitionsBeforeTheSlowTranslation() throws Exception {
+        List<Event> events = stream("serendipity");
+
+        List<String> names = events.stream().map(Event::name).toList();
+        assertThat(names).containsExactlyInAnyOrder("relations", "definitions", "translation", "etymology", "network");
+        assertThat(names.get(0)).isEqualTo("relations");
+        assertThat(names.get(names.size() - 1)).isEqualTo("network");
+        assertThat(names.indexOf("definitions")).isLessThan(names.indexOf("translation"));
+        Event definitions = events.get(names.indexOf("definitions"));
+        Event translation = events.get(names.indexOf("translation"));
+        assertThat(definitions.data()).contains("Definition of serendipity.");
+        assertThat(definitions.elapsedMillis()).isLessThan(TRANSLATION_DELAY.toMillis());
+        assertThat(translation.data()).contains("tradução de serendipity");
+        assertThat(translation.elapsedMillis()).isGreaterThanOrEqualTo(TRANSLATION_DELAY.toMillis());
+    }
+
+    @Test
+    void servesAStoredNetworkAsASingleEvent() throws Exception {
+        stream("harbour");
+
+        // A rede já está guardada: sai direto, sem as seções
+        assertThat(stream("harbour")).extracting(Event::name).containsExactly("network");
+    }
+
+    // Eventos na ordem de chegada, com o tempo desde o início da requisição
+    private List<Event> stream(String word) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://127.0.0.1:" + port + "/api/semantic/semantic-network/" + word + "/stream"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofMinutes(1))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        List<Event> events = new ArrayList<>();
+        String name = null;
+        try (Stream<String> lines = response.body()) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                if (line.startsWith("event:")) {
+                    name = line.substring("event:".length()).trim();
+                } else if (line.startsWith("data:") && name != null) {
+                    events.add(new Event(name, line.substring("data:".length()),
+                            Duration.ofNanos(System.nanoTime() - start).toMillis()));
+                    name = null;
+                }
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,163 @@
+package com.backend.controller;
+
+import com.backend.BackendApplication;
+import com.backend.domain.Course;
+import com.backend.domain.Difficulty;
+import com.backend.domain.User;
+import com.backend.domain.UserRole;
+import com.backend.persistence.CourseRepository;
+import com.backend.persistence.UserRepository;
+import com.backend.service.TokenService;
+import com.backend.support.OfflineTestConfiguration;
+import com.backend.support.StubUpstreamServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.data.domain.Sort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compara a vazão com threads de plataforma e com threads virtuais (spring.threads.virtual.enabled
+ * e semantic.executor.mode) em dois endpoints: /api/dictionary/{word}, assíncrono nos dois modos,
+ * com o dicionário e o MyMemory demorando UPSTREAM_DELAY; e /api/courses, que bloqueia a thread do
+ * servlet no repositório (simulando DB_LATENCY de banco). Com threads de plataforma o Tomcat fica
+ * limitado a MAX_SERVLET_THREADS threads; com threads virtuais esse limite não existe, então o
+ * endpoint de cursos tem de responder mais rápido. Compara vazões medidas, então só roda no perfil
+ * benchmarks.
+ */
+@Tag("benchmark")
+@Slf4j
+class ThreadModeBenchmarkTest {
+
+    private static final int REQUESTS = 500;
+    private static final int WARMUP_REQUESTS = 50;
+    private static final int MAX_SERVLET_THREADS = 20;
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(200);
+    private static final Duration DB_LATENCY = Duration.ofMillis(200);
+
+    private static StubUpstreamServer upstream;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+
+    private record Throughput(double dictionary, double courses) {
+    }
+
+    @BeforeAll
+    static void startUpstream() throws Exception {
+        upstream = new StubUpstreamServer(UPSTREAM_DELAY);
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    void virtualThreadsServeBlockingEndpointsFaster() throws Exception {
+        Map<String, Throughput> results = new LinkedHashMap<>();
+        for (String mode : List.of("platform", "virtual")) {
+            results.put(mode, measure(mode));
+        }
+
+        results.forEach((mode, throughput) -> log.info("Threads {}: dicionário {} req/s, cursos {} req/s",
+                mode, Math.round(throughput.dictionary()), Math.round(throughput.courses())));
+
+        assertThat(results.get("virtual").courses()).isGreaterThan(results.get("platform").courses());
+    }
+
+    private Throughput measure(String mode) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(BackendApplication.class, OfflineTestConfiguration.class)
+                        .profiles("offline")
+                        // Argumentos de linha de comando: têm precedência sobre o application.properties
+                        .run(
+                                "--server.port=0",
+                                "--server.tomcat.threads.max=" + MAX_SERVLET_THREADS,
+                                "--server.tomcat.accept-count=" + REQUESTS,
+                                "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                                "--semantic.executor.mode=" + mode,
+                                "--dictionary.api.url=" + upstream.dictionaryUrl(),
+                                "--translation.api.url=" + upstream.translationUrl(),
+                                "--semantic.http.max-requests-per-host=" + 2 * REQUESTS,
+                                "--resilience4j.bulkhead.instances.dictionary.max-concurrent-calls=" + REQUESTS,
+                                "--resilience4j.bulkhead.instances.translation.max-concurrent-calls=" + REQUESTS,
+                                // Prazos folgados: aqui só interessa a vazão, mesmo numa máquina com um único processador
+                                "--semantic.deadline.word-details=2m",
+                                "--semantic.timeout.definitions=1m",
+                                "--semantic.timeout.translation=1m",
+                                "--semantic.http.connect-timeout=1m",
+                                "--semantic.http.read-timeout=1m",
+                                "--resilience4j.circuitbreaker.instances.dictionary.slow-call-duration-threshold=1m",
+                                "--resilience4j.circuitbreaker.instances.translation.slow-call-duration-threshold=1m",
+                                "--logging.level.com.backend=WARN",
+                                "--logging.level.com.backend.controller.ThreadModeBenchmarkTest=INFO",
+                                "--app.debug.enabled=false")) {
+            String token = signIn(context);
+            int port = context.getWebServer().getPort();
+            IntFunction<HttpRequest> dictionaryLookup = i -> HttpRequest.newBuilder(
+                    URI.create("http://127.0.0.1:" + port + "/api/dictionary/" + mode + i)).timeout(Duration.ofMinutes(3)).build();
+            IntFunction<HttpRequest> courseListing = i -> HttpRequest.newBuilder(
+                    URI.create("http://127.0.0.1:" + port + "/api/courses"))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofMinutes(3))
+                    .build();
+
+            // Aquecimento (JIT, conexões) com palavras que não se repetem na medição
+            requestsPerSecond(i -> dictionaryLookup.apply(REQUESTS + i), WARMUP_REQUESTS);
+            requestsPerSecond(courseListing, WARMUP_REQUESTS);
+            return new Throughput(requestsPerSecond(dictionaryLookup, REQUESTS), requestsPerSecond(courseListing, REQUESTS));
+        }
+    }
+
+    // Usuário e cursos dos repositórios de mentira; cada listagem de cursos demora DB_LATENCY
+    private static String signIn(ServletWebServerApplicationContext context) {
+        User user = new User("aluno@englishforalltime.com", "senha", UserRole.USER);
+        when(context.getBean(UserRepository.class).findByLogin(anyString())).thenReturn(user);
+        Course course = new Course();
+        course.setId(1L);
+        course.setTitle("Inglês básico");
+        course.setDifficulty(Difficulty.BEGINNER);
+        course.setCreatedAt(LocalDateTime.now());
+        course.setCreatedBy(user);
+        when(context.getBean(CourseRepository.class).findAll(any(Sort.class))).thenAnswer(invocation -> {
+            Thread.sleep(DB_LATENCY);
+            return List.of(course);
+        });
+        return context.getBean(TokenService.class).generateToken(user);
+    }
+
+    private double requestsPerSecond(IntFunction<HttpRequest> request, int count) throws Exception {
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(client.sendAsync(request.apply(i), HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(3, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - start;
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertThat(response.join().statusCode()).isEqualTo(200);
+        }
+        return count * 1e9 / elapsedNanos;
+    }
+}
@@ -0,0 +1,171 @@
+package com.backend.service;
+
+import com.backend.Util.RefreshingCache;
+import com.backend.dto.DefinitionDTO;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.WordDetailsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheSnapshotServiceTest {
+
+    private static final Duration SOFT_TTL = Duration.ofHours(1);
+    private static final Duration HARD_TTL = Duration.ofDays(1);
+    private static final Duration GRACE = Duration.ofDays(1);
+    private static final Duration MAX_AGE = Duration.ofHours(24);
+
+    private static final WordDetailsDTO RUN = new WordDetailsDTO("run", "/ɹʌn/", List.of(
+            new MeaningDTO("verb", List.of(new DefinitionDTO("To move quickly on foot.", null)), List.of("sprint"))),
+            "correr");
+
+    @TempDir
+    Path directory;
+
+    private record Caches(RefreshingCache<WordDetailsDTO> wordDetails, Cache<String, String> translations,
+                          RefreshingCache<String> definitions) {
+    }
+
+    @Test
+    void restoresASavedSnapshotIntoFreshCaches() throws Exception {
+        Path snapshot = directory.resolve("cache-snapshot.bin");
+        Caches saved = caches(RefreshingCache.WALL_CLOCK);
+        saved.wordDetails().put("run", RUN);
+        saved.translations().put("run", "correr");
+        saved.definitions().put("run", "move swiftly");
+        // Sem snapshot para carregar, a gravação fica liberada logo após a "carga"
+        restore(saved, snapshot, MAX_AGE).saveSnapshot();
+        assertThat(snapshot).isRegularFile();
+
+        Caches restored = caches(RefreshingCache.WALL_CLOCK);
+        restored.translations().put("run", "corrida");
+        restore(restored, snapshot, MAX_AGE);
+
+        assertThat(restored.wordDetails().getIfFresh("run")).isEqualTo(RUN);
+        assertThat(restored.wordDetails().asMap().get("run").loadedAt())
+                .isEqualTo(saved.wordDetails().asMap().get("run").loadedAt());
+        assertThat(restored.definitions().getIfFresh("run")).isEqualTo("move swiftly");
+        // O que já estava no cache não é sobrescrito
+        assertThat(restored.translations().getIfPresent("run")).isEqualTo("corrida");
+    }
+
+    @Test
+    void entriesKeepTheirOriginalAge() throws Exception {
+        Path snapshot = directory.resolve("cache-snapshot.bin");
+        long now = System.currentTimeMillis();
+        // Caches com relógios no passado: as entradas são gravadas com essas datas de carga
+        Caches old = caches(() -> TimeUnit.MILLISECONDS.toNanos(now) - HARD_TTL.plus(GRACE).plusHours(1).toNanos());
+        old.wordDetails().put("old", RUN);
+        Caches stale = caches(() -> TimeUnit.MILLISECONDS.toNanos(now) - SOFT_TTL.plusMinutes(5).toNanos());
+        stale.definitions().put("stale", "definição");
+        Caches saved = new Caches(old.wordDetails(), stale.translations(), stale.definitions());
+        restore(saved, snapshot, MAX_AGE).saveSnapshot();
+
+        Caches restored = caches(RefreshingCache.WALL_CLOCK);
+        restore(restored, snapshot, MAX_AGE);
+
+        // Passou do TTL rígido mais a carência: fica de fora
+        assertThat(restored.wordDetails().getIfPresent("old")).isNull();
+        // Passou só do TTL suave: volta, mas já precisa de atualização
+        assertThat(restored.definitions().getIfPresent("stale")).isEqualTo("definição");
+        assertThat(restored.definitions().getIfFresh("stale")).isNull();
+    }
+
+    @Test
+    void ignoresAnExpiredSnapshot() throws Exception {
+        Path snapshot = directory.resolve("cache-snapshot.bin");
+        Caches saved = caches(RefreshingCache.WALL_CLOCK);
+        saved.wordDetails().put("run", RUN);
+        restore(saved, snapshot, MAX_AGE).saveSnapshot();
+        Thread.sleep(20);
+
+        Caches restored = caches(RefreshingCache.WALL_CLOCK);
+        restore(restored, snapshot, Duration.ofMillis(10));
+
+        assertThat(restored.wordDetails().asMap()).isEmpty();
+    }
+
+    @Test
+    void ignoresACorruptOrUnknownSnapshotAndReplacesItOnTheNextSave() throws Exception {
+        Path snapshot = directory.resolve("cache-snapshot.bin");
+        Files.write(snapshot, new byte[]{1, 2, 3, 4, 5});
+        Caches caches = caches(RefreshingCache.WALL_CLOCK);
+
+        CacheSnapshotService service = restore(caches, snapshot, MAX_AGE);
+
+        assertThat(caches.wordDetails().asMap()).isEmpty();
+        caches.wordDetails().put("run", RUN);
+        service.saveSnapshot();
+        Caches restored = caches(RefreshingCache.WALL_CLOCK);
+        restore(restored, snapshot, MAX_AGE);
+        assertThat(restored.wordDetails().getIfPresent("run")).isEqualTo(RUN);
+
+        // Arquivo gzip válido, mas com outro formato
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(snapshot)))) {
+            out.writeInt(0x12345678);
+            out.writeInt(1);
+        }
+        Caches unknown = caches(RefreshingCache.WALL_CLOCK);
+        restore(unknown, snapshot, MAX_AGE);
+        assertThat(unknown.wordDetails().asMap()).isEmpty();
+    }
+
+    @Test
+    void doesNotSaveBeforeTheRestoreFinishes() {
+        Path snapshot = directory.resolve("cache-snapshot.bin");
+        Caches caches = caches(RefreshingCache.WALL_CLOCK);
+        caches.wordDetails().put("run", RUN);
+
+        snapshotService(caches, snapshot, MAX_AGE, Executors.newSingleThreadExecutor()).saveSnapshot();
+
+        assertThat(snapshot).doesNotExist();
+    }
+
+    // Serviço com a carga já concluída (só depois dela a gravação é liberada)
+    private static CacheSnapshotService restore(Caches caches, Path snapshot, Duration maxAge) throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CacheSnapshotService service = snapshotService(caches, snapshot, maxAge, executor);
+        service.restoreInBackground();
+        awaitTermination(executor);
+        return service;
+    }
+
+    private static CacheSnapshotService snapshotService(Caches caches, Path snapshot, Duration maxAge,
+                                                        ExecutorService executor) {
+        return new CacheSnapshotService(caches.wordDetails(), caches.translations(), caches.definitions(),
+                executor, snapshot.toString(), maxAge);
+    }
+
+    private static void awaitTermination(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static Caches caches(Ticker ticker) {
+        return new Caches(refreshingCache("word-details", ticker),
+                Caffeine.newBuilder().build(),
+                refreshingCache("wikidata-definitions", ticker));
+    }
+
+    private static <V> RefreshingCache<V> refreshingCache(String name, Ticker ticker) {
+        return new RefreshingCache<>(name,
+                Caffeine.newBuilder().expireAfter(RefreshingCache.<V>expiry(HARD_TTL.plus(GRACE), ticker)).build(),
+                SOFT_TTL, HARD_TTL, GRACE, Runnable::run, RateLimiter.ofDefaults(name), ticker);
+    }
+}
@@ -0,0 +1,211 @@
+package com.backend.service;
+
+import com.backend.dto.DefinitionDTO;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.WordDetailsDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Slf4j
+class DictionaryResponseParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DictionaryResponseParser parser = new DictionaryResponseParser(objectMapper);
+    private byte[] runResponse;
+
+    @BeforeEach
+    void loadFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/dictionary/run.json")) {
+            runResponse = in.readAllBytes();
+        }
+    }
+
+    @Test
+    void readsOnlyTheFirstEntry() throws IOException {
+        WordDetailsDTO details = parse(runResponse, "Run");
+
+        assertThat(details.word()).isEqualTo("run");
+        assertThat(details.phonetic()).isEqualTo("/ɹʌn/");
+        assertThat(details.translation()).isNull();
+        assertThat(details.meanings()).extracting(MeaningDTO::partOfSpeech).containsExactly("noun", "verb");
+        assertThat(details.meanings().get(0).definitions()).containsExactly(
+                new DefinitionDTO("Act or instance of running, of moving rapidly using the feet.",
+                        "I just got back from my morning run."),
+                new DefinitionDTO("A quick trip to somewhere.", null));
+        assertThat(details.meanings().get(0).synonyms()).containsExactly("jog", "sprint");
+        assertThat(details.meanings().get(1).synonyms()).containsExactly("race");
+    }
+
+    @Test
+    void matchesTheTreeBasedParsing() throws IOException {
+        assertThat(parse(runResponse, "run")).isEqualTo(parseWithTree(runResponse, "run"));
+    }
+
+    @Test
+    void skipsUnknownFieldsAndUnexpectedShapes() throws IOException {
+        String json = """
+                [{"license": {"name": "CC", "nested": [1, [2, {"x": 3}]]},
+                  "extra": [{"word": "not-this"}],
+                  "phonetics": {"text": "/not-an-array/"},
+                  "meanings": [
+                    "not-an-object",
+                    {"partOfSpeech": {"unexpected": true},
+                     "definitions": [{"definition": "Kept.", "example": null, "notes": ["a", "b"]}, 42],
+                     "synonyms": "not-an-array",
+                     "unknown": {"deep": {"deeper": []}}}
+                  ],
+                  "word": "kept"}]
+                """;
+
+        WordDetailsDTO details = parse(json.getBytes(StandardCharsets.UTF_8), "original");
+
+        assertThat(details.word()).isEqualTo("kept");
+        assertThat(details.phonetic()).isNull();
+        assertThat(details.meanings()).containsExactly(
+                new MeaningDTO("", List.of(new DefinitionDTO("Kept.", null)), List.of()));
+    }
+
+    @Test
+    void usesTheRequestedWordWhenTheEntryHasNone() throws IOException {
+        WordDetailsDTO details = parse("[{\"meanings\": []}]".getBytes(StandardCharsets.UTF_8), "lonely");
+
+        assertThat(details.word()).isEqualTo("lonely");
+        assertThat(details.meanings()).isEmpty();
+    }
+
+    @Test
+    void returnsNullForEmptyOrNonArrayResponses() throws IOException {
+        assertThat(parse("[]".getBytes(StandardCharsets.UTF_8), "none")).isNull();
+        assertThat(parse("".getBytes(StandardCharsets.UTF_8), "none")).isNull();
+        assertThat(parse("[\"text\"]".getBytes(StandardCharsets.UTF_8), "none")).isNull();
+        // Formato do 404 da API
+        assertThat(parse("{\"title\": \"No Definitions Found\"}".getBytes(StandardCharsets.UTF_8), "none")).isNull();
+    }
+
+    @Test
+    void failsOnTruncatedResponses() {
+        byte[] truncated = new String(runResponse, StandardCharsets.UTF_8)
+                .substring(0, 400).getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> parse(truncated, "run")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parse("[{\"word\": \"run\", \"meanings\": [".getBytes(StandardCharsets.UTF_8), "run"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void consumesTheWholeBodyWithoutClosingIt() throws IOException {
+        byte[] response = repeatEntries(runResponse, 5);
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayInputStream body = new ByteArrayInputStream(response) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        assertThat(parser.parseFirstEntry(body, "run").word()).isEqualTo("run");
+        assertThat(body.available()).isZero();
+        assertThat(closed).isFalse();
+    }
+
+    // Resposta grande (várias entradas, como a de "set"): a leitura em stream só processa a primeira,
+    // sem a String do corpo e sem a árvore JsonNode da leitura anterior. Contadores de alocação dependem
+    // do JIT e do GC, então a comparação só roda no perfil benchmarks
+    @Test
+    @Tag("benchmark")
+    void allocatesLessThanTheTreeBasedParsing() throws IOException {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean,
+                "JVM sem contagem de bytes alocados por thread");
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled(),
+                "JVM sem contagem de bytes alocados por thread");
+
+        byte[] largeResponse = repeatEntries(runResponse, 60);
+        int iterations = 200;
+        for (int i = 0; i < iterations; i++) {
+            parse(largeResponse, "run");
+            parseWithTree(largeResponse, "run");
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            parse(largeResponse, "run");
+        }
+        long streaming = (allocations.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+        before = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            parseWithTree(largeResponse, "run");
+        }
+        long tree = (allocations.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+        log.info("Resposta de {} KB: {} bytes alocados por leitura em stream, {} pela árvore",
+                largeResponse.length / 1024, streaming, tree);
+        assertThat(streaming).isLessThan(tree / 4);
+    }
+
+    private WordDetailsDTO parse(byte[] body, String word) throws IOException {
+        return parser.parseFirstEntry(new ByteArrayInputStream(body), word);
+    }
+
+    // Array com a primeira entrada do fixture repetida
+    private byte[] repeatEntries(byte[] response, int copies) throws IOException {
+        JsonNode entry = objectMapper.readTree(response).get(0);
+        List<JsonNode> entries = new ArrayList<>(copies);
+        for (int i = 0; i < copies; i++) {
+            entries.add(entry);
+        }
+        return objectMapper.writeValueAsBytes(entries);
+    }
+
+    // Leitura anterior ao parser em stream: corpo como String, árvore JsonNode e mapeamento da primeira entrada
+    private WordDetailsDTO parseWithTree(byte[] body, String originalWord) throws JsonProcessingException {
+        JsonNode jsonArray = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        if (!jsonArray.isArray() || jsonArray.isEmpty()) {
+            return null;
+        }
+        JsonNode wordJson = jsonArray.get(0);
+        String word = wordJson.path("word").asText(originalWord);
+        String phonetic = null;
+        for (JsonNode phoneticNode : wordJson.path("phonetics")) {
+            String phoneticText = phoneticNode.path("text").asText();
+            if (!phoneticText.isEmpty()) {
+                phonetic = phoneticText;
+                break;
+            }
+        }
+        List<MeaningDTO> meanings = new ArrayList<>();
+        for (JsonNode meaningJson : wordJson.path("meanings")) {
+            List<DefinitionDTO> definitions = new ArrayList<>();
+            for (JsonNode defJson : meaningJson.path("definitions")) {
+                definitions.add(new DefinitionDTO(defJson.path("definition").asText(), defJson.path("example").asText(null)));
+            }
+            List<String> synonyms = new ArrayList<>();
+            for (JsonNode synonym : meaningJson.path("synonyms")) {
+                synonyms.add(synonym.asText());
+            }
+            meanings.add(new MeaningDTO(meaningJson.path("partOfSpeech").asText(), definitions, synonyms));
+        }
+        return new WordDetailsDTO(word, phonetic, meanings, null);
+    }
+}
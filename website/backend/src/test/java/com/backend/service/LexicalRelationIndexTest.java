@@ -0,0 +1,96 @@
+package com.backend.service;
+
+import com.backend.Util.LexicalRelationGraph.Edge;
+import com.backend.Util.LexicalRelationGraph.Relation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LexicalRelationIndexTest {
+
+    private static final int LIMIT = 10;
+
+    private record Related(String word, String type, double similarity) {
+    }
+
+    // Saídas dos antigos generateWordFamily, generateAntonyms e generateSemanticRelations do SemanticService
+    private static final Map<String, String> OLD_WORD_FAMILY = Map.of(
+            "happy", "happiness, happily, unhappy, unhappiness",
+            "computer", "compute, computation, computational, computing",
+            "telephone", "telephonic, telephony, telephonist",
+            "democracy", "democratic, democratize, democratization");
+
+    private static final Map<String, List<Related>> OLD_ANTONYMS = Map.of(
+            "happy", List.of(new Related("sad", "antonym", 0.95), new Related("unhappy", "antonym", 0.90)),
+            "computer", List.of(),
+            "telephone", List.of(),
+            "democracy", List.of());
+
+    private static final Map<String, List<Related>> OLD_SEMANTIC_RELATIONS = Map.of(
+            "computer", List.of(new Related("technology", "domain", 0.85), new Related("software", "related", 0.80),
+                    new Related("digital", "related", 0.75)),
+            "happy", List.of(new Related("emotion", "domain", 0.90), new Related("joy", "related", 0.85),
+                    new Related("positive", "related", 0.80)),
+            "telephone", List.of(),
+            "democracy", List.of());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void theBundledFileReproducesTheFormerHardCodedRelations() {
+        LexicalRelationIndex index = new LexicalRelationIndex(directory.resolve("ausente.tsv").toString());
+
+        for (String word : OLD_WORD_FAMILY.keySet()) {
+            assertThat(index.neighbours(word, EnumSet.of(Relation.DERIVATION), LIMIT).stream()
+                    .map(Edge::word).collect(Collectors.joining(", ")))
+                    .as("família de %s", word)
+                    .isEqualTo(OLD_WORD_FAMILY.get(word));
+            assertThat(related(index, word, EnumSet.of(Relation.ANTONYM)))
+                    .as("antônimos de %s", word)
+                    .isEqualTo(OLD_ANTONYMS.get(word));
+            assertThat(related(index, word, EnumSet.of(Relation.HYPERNYM, Relation.DOMAIN, Relation.RELATED)))
+                    .as("relações de %s", word)
+                    .isEqualTo(OLD_SEMANTIC_RELATIONS.get(word));
+        }
+        // A busca normaliza a palavra
+        assertThat(index.neighbours(" Happy ", EnumSet.of(Relation.ANTONYM), LIMIT)).hasSize(2);
+    }
+
+    @Test
+    void readsAFileGivenInTheConfiguration() throws IOException {
+        Path relations = directory.resolve("relations.tsv");
+        Files.writeString(relations, """
+                # comentário
+                Car\tsynonym\tautomobile\t0.9
+                car\thypernym\tvehicle
+                car\topposite\tbike\t0.5
+                car\trelated\troad\tmuito
+                """, StandardCharsets.UTF_8);
+
+        LexicalRelationIndex index = new LexicalRelationIndex(relations.toString());
+
+        assertThat(index.neighbours("car", EnumSet.allOf(Relation.class), LIMIT)).containsExactly(
+                new Edge("automobile", Relation.SYNONYM, 0.9f),
+                new Edge("vehicle", Relation.HYPERNYM, 1.0f),
+                new Edge("road", Relation.RELATED, 1.0f));
+        assertThat(index.neighbours("happy", EnumSet.allOf(Relation.class), LIMIT)).isEmpty();
+    }
+
+    private static List<Related> related(LexicalRelationIndex index, String word, Set<Relation> relations) {
+        return index.neighbours(word, relations, LIMIT).stream()
+                .map(edge -> new Related(edge.word(), edge.relation().id(), Math.round(edge.weight() * 100) / 100.0))
+                .toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LexiconServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadsTheWordListWithItsFrequencies() throws IOException {
+        LexiconService lexicon = lexicon("""
+                # palavra<TAB>frequência
+                House\t30
+                horse\t20
+                hose
+                mouse\t10
+                  Hours\tmuitas
+                """);
+
+        assertThat(lexicon.suggest("ho", 10)).containsExactly("house", "horse", "hose", "hours");
+        assertThat(lexicon.suggest("", 2)).containsExactly("house", "horse");
+        assertThat(lexicon.suggest("z", 10)).isEmpty();
+    }
+
+    @Test
+    void popularityChangesShowUpAfterTheRebuild() throws IOException {
+        LexiconService lexicon = lexicon("house\t3\nhorse\t2\nhose\t1\n");
+        for (int i = 0; i < 5; i++) {
+            lexicon.recordLookup("hose");
+        }
+        lexicon.recordLookup("hostel");
+
+        // A trie só muda na reconstrução, fora do caminho das requisições
+        assertThat(lexicon.suggest("ho", 10)).containsExactly("house", "horse", "hose");
+
+        lexicon.rebuildIfDirty();
+
+        assertThat(lexicon.suggest("ho", 10)).containsExactly("hose", "house", "horse", "hostel");
+        assertThat(lexicon.suggest("hos", 10)).containsExactly("hose", "hostel");
+    }
+
+    @Test
+    void didYouMeanUsesTheLivePopularityAndTheNewWords() throws IOException {
+        LexiconService lexicon = lexicon("house\t3\nhorse\t2\nmouse\t1\n");
+
+        assertThat(lexicon.didYouMean("hous", 10)).containsExactly("house", "horse", "mouse");
+        assertThat(lexicon.didYouMean("", 10)).isEmpty();
+
+        lexicon.recordLookup("hous");
+        for (int i = 0; i < 5; i++) {
+            lexicon.recordLookup("mouse");
+        }
+        // A pontuação é lida na consulta; a palavra nova só entra no índice na reconstrução
+        assertThat(lexicon.didYouMean("houe", 10)).containsExactly("house", "mouse", "horse");
+
+        lexicon.rebuildIfDirty();
+
+        assertThat(lexicon.didYouMean("houe", 10)).containsExactly("house", "hous", "mouse", "horse");
+    }
+
+    @Test
+    void startsEmptyWithoutAWordList() {
+        LexiconService lexicon = new LexiconService(directory.resolve("ausente.txt").toString());
+
+        assertThat(lexicon.suggest("", 10)).isEmpty();
+        assertThat(lexicon.didYouMean("house", 10)).isEmpty();
+
+        lexicon.recordLookup("house");
+        lexicon.rebuildIfDirty();
+
+        assertThat(lexicon.suggest("h", 10)).containsExactly("house");
+        assertThat(lexicon.didYouMean("hous", 10)).containsExactly("house");
+    }
+
+    private LexiconService lexicon(String contents) throws IOException {
+        Path path = directory.resolve("lexicon.txt");
+        Files.writeString(path, contents, StandardCharsets.UTF_8);
+        return new LexiconService(path.toString());
+    }
+}
@@ -0,0 +1,111 @@
+package com.backend.service;
+
+import com.backend.dto.DefinitionDTO;
+import com.backend.dto.MeaningDTO;
+import com.backend.dto.WordDetailsDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Importação do JSONL do kaikki (src/test/resources/dictionary/kaikki-sample.jsonl) seguida de
+ * consultas no índice mapeado: "run" tem duas classes gramaticais, que são unidas na consulta.
+ */
+class LocalDictionaryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final LocalDictionaryImporter importer = new LocalDictionaryImporter(new ObjectMapper());
+    private Path sample;
+
+    @BeforeEach
+    void copySample() throws IOException {
+        sample = directory.resolve("kaikki-sample.jsonl");
+        try (InputStream in = getClass().getResourceAsStream("/dictionary/kaikki-sample.jsonl")) {
+            Files.copy(in, sample);
+        }
+    }
+
+    @Test
+    void importsEnglishEntriesAndMergesThePartsOfSpeech() throws IOException {
+        Path index = directory.resolve("local-dictionary.idx");
+
+        // Ficam de fora: a entrada em francês, a sem glosas e a linha inválida
+        assertThat(importer.importKaikki(sample, index)).isEqualTo(5);
+
+        LocalDictionaryStore store = new LocalDictionaryStore(index.toString());
+        assertThat(store.isAvailable()).isTrue();
+        WordDetailsDTO run = store.find("run").orElseThrow();
+        assertThat(run.word()).isEqualTo("run");
+        // As entradas da mesma palavra ficam na ordem do arquivo; a pronúncia é a da primeira
+        assertThat(run.phonetic()).isEqualTo("/ɹʌn/");
+        assertThat(run.translation()).isNull();
+        assertThat(run.meanings()).containsExactly(
+                new MeaningDTO("verb", List.of(
+                        new DefinitionDTO("To move quickly on foot.", "She runs every morning."),
+                        new DefinitionDTO("To operate a machine.", null)),
+                        List.of("sprint", "jog")),
+                new MeaningDTO("noun", List.of(new DefinitionDTO("An act of running.", null)), List.of()));
+    }
+
+    @Test
+    void findsTheFirstAndLastKeysAndMissesTheRest() throws IOException {
+        Path index = directory.resolve("local-dictionary.idx");
+        importer.importKaikki(sample, index);
+        LocalDictionaryStore store = new LocalDictionaryStore(index.toString());
+
+        // Ordem das chaves em bytes UTF-8: apple, café, run, run, zebra
+        assertThat(store.find("apple")).get().extracting(WordDetailsDTO::phonetic).isEqualTo("/ˈæp.əl/");
+        assertThat(store.find("zebra")).get().extracting(WordDetailsDTO::word).isEqualTo("zebra");
+        assertThat(store.find("café")).isPresent();
+
+        assertThat(store.find("aardvark")).isEmpty();
+        assertThat(store.find("zzz")).isEmpty();
+        assertThat(store.find("cafe")).isEmpty();
+        assertThat(store.find("ru")).isEmpty();
+        assertThat(store.find("runs")).isEmpty();
+        assertThat(store.find("chat")).isEmpty();
+        assertThat(store.find("ghost")).isEmpty();
+        assertThat(store.find("")).isEmpty();
+    }
+
+    @Test
+    void readsCompressedDumpsAndReloadsTheIndex() throws IOException {
+        Path compressed = directory.resolve("kaikki-sample.jsonl.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+            Files.copy(sample, out);
+        }
+        Path index = directory.resolve("local-dictionary.idx");
+        LocalDictionaryStore store = new LocalDictionaryStore(index.toString());
+        assertThat(store.isAvailable()).isFalse();
+        assertThat(store.find("run")).isEmpty();
+
+        assertThat(importer.importKaikki(compressed, index)).isEqualTo(5);
+        store.reload();
+
+        assertThat(store.find("run")).get().extracting(details -> details.meanings().size()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoresAFileThatIsNotAnIndex() throws IOException {
+        Path index = directory.resolve("local-dictionary.idx");
+        Files.write(index, new byte[64]);
+
+        LocalDictionaryStore store = new LocalDictionaryStore(index.toString());
+
+        assertThat(store.isAvailable()).isFalse();
+        assertThat(store.find("run")).isEmpty();
+    }
+}
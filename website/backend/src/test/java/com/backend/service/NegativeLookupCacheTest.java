@@ -0,0 +1,92 @@
+package com.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeLookupCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Cache<String, Boolean> missingWords = Caffeine.newBuilder()
+            .ticker(nanos::get)
+            .expireAfterWrite(TTL)
+            .build();
+
+    @Test
+    void confirmsMissingWordsUntilTheTtlExpires() {
+        NegativeLookupCache cache = new NegativeLookupCache(missingWords, 1_000);
+        cache.recordMissing("xyzzy");
+
+        assertThat(cache.isKnownMissing("xyzzy")).isTrue();
+        assertThat(cache.isKnownMissing("house")).isFalse();
+
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+
+        // O filtro ainda diz "talvez", mas o cache já não confirma
+        assertThat(cache.isKnownMissing("xyzzy")).isFalse();
+    }
+
+    @Test
+    void rebuildsTheSaturatedFilterWithTheLiveWordsOnly() {
+        int expectedInsertions = 100;
+        NegativeLookupCache cache = new NegativeLookupCache(missingWords, expectedInsertions);
+        for (int i = 0; i < expectedInsertions / 2; i++) {
+            cache.recordMissing("antiga-" + i);
+        }
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+
+        for (int i = 0; i < 3 * expectedInsertions; i++) {
+            cache.recordMissing("nova-" + i);
+        }
+
+        for (int i = 0; i < 3 * expectedInsertions; i++) {
+            assertThat(cache.isKnownMissing("nova-" + i)).as("nova-%d", i).isTrue();
+        }
+        for (int i = 0; i < expectedInsertions / 2; i++) {
+            assertThat(cache.isKnownMissing("antiga-" + i)).isFalse();
+        }
+    }
+
+    @Test
+    void concurrentRecordsSurviveTheRebuilds() throws Exception {
+        // Filtro pequeno: as gravações disparam várias reconstruções enquanto outras threads gravam
+        int expectedInsertions = 64;
+        int writers = 8;
+        int wordsPerWriter = 2_000;
+        NegativeLookupCache cache = new NegativeLookupCache(missingWords, expectedInsertions);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<CompletableFuture<Void>> writes = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                writes.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < wordsPerWriter; i++) {
+                        cache.recordMissing(writer + "-" + i);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int w = 0; w < writers; w++) {
+            for (int i = 0; i < wordsPerWriter; i++) {
+                assertThat(cache.isKnownMissing(w + "-" + i)).as("%d-%d", w, i).isTrue();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.backend.service;
+
+import com.backend.exception.GlobalExceptionHandler;
+import com.backend.exception.UpstreamUnavailableException;
+import com.backend.exception.WordNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.backend.service.UpstreamGuard.Upstream.DICTIONARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cadeia de fallback do UpstreamGuard com o circuito forçado a abrir e o bulkhead sem vagas:
+ * última resposta boa, depois a resposta degradada, depois {@link UpstreamUnavailableException} (503).
+ */
+class UpstreamGuardTest {
+
+    // Mesmas regras do application.properties: bulkhead cheio e "não encontrado" não contam como falha
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .ignoreExceptions(WordNotFoundException.class, BulkheadFullException.class)
+            .build());
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final Cache<String, Object> lastKnownGoodCache = Caffeine.newBuilder().build();
+    private final UpstreamGuard guard = new UpstreamGuard(circuitBreakerRegistry, bulkheadRegistry, lastKnownGoodCache);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @RestController
+    static class GuardedController {
+
+        private final UpstreamGuard guard;
+
+        GuardedController(UpstreamGuard guard) {
+            this.guard = guard;
+        }
+
+        @GetMapping("/guarded/{word}")
+        String guarded(@PathVariable String word) {
+            return guard.call(DICTIONARY, word, () -> "definição de " + word, null);
+        }
+    }
+
+    @Test
+    void anOpenCircuitServesTheLastKnownGoodThenTheDegradedValueThenFails() {
+        assertThat(guard.call(DICTIONARY, "harbour", () -> remote("porto"), () -> "degradada")).isEqualTo("porto");
+        circuitBreaker().transitionToForcedOpenState();
+
+        assertThat(guard.call(DICTIONARY, "harbour", () -> remote("nova"), () -> "degradada")).isEqualTo("porto");
+        assertThat(guard.call(DICTIONARY, "lantern", () -> remote("lanterna"), () -> "degradada")).isEqualTo("degradada");
+        assertThatThrownBy(() -> guard.call(DICTIONARY, "lantern", () -> remote("lanterna"), null))
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .hasMessage("Serviço externo 'dictionary' indisponível")
+                .hasCauseInstanceOf(CallNotPermittedException.class);
+        // Com o circuito aberto o serviço nem é chamado
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void aFullBulkheadFallsBackTheSameWayWithoutOpeningTheCircuit() {
+        assertThat(guard.call(DICTIONARY, "harbour", () -> remote("porto"), null)).isEqualTo("porto");
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(DICTIONARY.id());
+        assertThat(bulkhead.tryAcquirePermission()).isTrue();
+        try {
+            assertThat(guard.call(DICTIONARY, "harbour", () -> remote("nova"), () -> "degradada")).isEqualTo("porto");
+            assertThat(guard.call(DICTIONARY, "lantern", () -> remote("lanterna"), () -> "degradada")).isEqualTo("degradada");
+            assertThatThrownBy(() -> guard.call(DICTIONARY, "lantern", () -> remote("lanterna"), null))
+                    .isInstanceOf(UpstreamUnavailableException.class)
+                    .hasCauseInstanceOf(BulkheadFullException.class);
+        } finally {
+            bulkhead.onComplete();
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // Vaga liberada: a chamada volta a ir ao serviço e atualiza a última resposta boa
+        assertThat(guard.call(DICTIONARY, "harbour", () -> remote("nova"), null)).isEqualTo("nova");
+        assertThat(lastKnownGoodCache.getIfPresent("dictionary:harbour")).isEqualTo("nova");
+    }
+
+    @Test
+    void aFailingCallUsesTheSameChain() {
+        assertThat(guard.call(DICTIONARY, "harbour", () -> remote("porto"), null)).isEqualTo("porto");
+
+        assertThat(guard.call(DICTIONARY, "harbour", this::failing, () -> "degradada")).isEqualTo("porto");
+        assertThat(guard.call(DICTIONARY, "lantern", this::failing, () -> "degradada")).isEqualTo("degradada");
+        assertThatThrownBy(() -> guard.call(DICTIONARY, "lantern", this::failing, null))
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .hasRootCauseMessage("conexão recusada");
+    }
+
+    @Test
+    void notFoundSkipsTheFallbacks() {
+        assertThat(guard.call(DICTIONARY, "zzqx", () -> remote("antiga"), null)).isEqualTo("antiga");
+
+        assertThatThrownBy(() -> guard.call(DICTIONARY, "zzqx", () -> {
+            throw new WordNotFoundException("Palavra não encontrada no dicionário");
+        }, () -> "degradada")).isInstanceOf(WordNotFoundException.class);
+    }
+
+    @Test
+    void anUnavailableUpstreamAnswers503() throws Exception {
+        circuitBreaker().transitionToForcedOpenState();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new GuardedController(guard))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/guarded/harbour"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value("Serviço externo 'dictionary' indisponível"));
+    }
+
+    private String remote(String value) {
+        calls.incrementAndGet();
+        return value;
+    }
+
+    private String failing() {
+        throw new IllegalStateException("conexão recusada");
+    }
+
+    private CircuitBreaker circuitBreaker() {
+        return circuitBreakerRegistry.circuitBreaker(DICTIONARY.id());
+    }
+}
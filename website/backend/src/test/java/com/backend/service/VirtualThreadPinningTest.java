@@ -0,0 +1,191 @@
+package com.backend.service;
+
+import com.backend.controller.SemanticController.LanguageConnection;
+import com.backend.controller.SemanticController.RelatedWord;
+import com.backend.controller.SemanticController.SemanticNetworkDTO;
+import com.backend.controller.SemanticController.WordOrigin;
+import com.zaxxer.hikari.HikariDataSource;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Roda os caminhos de Jena (TDB2) e JDBC em threads virtuais, com várias delas disputando o mesmo
+ * recurso, e falha se o JFR registrar algum jdk.VirtualThreadPinned (thread virtual presa à thread
+ * de plataforma ao bloquear, normalmente dentro de um synchronized). A parte de JDBC só roda com um
+ * Postgres acessível (SPRING_DATASOURCE_URL, ou o banco local de application.properties).
+ */
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int CONCURRENCY = 32;
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void semanticNetworkStoreDoesNotPinVirtualThreads() throws Exception {
+        SemanticNetworkStore store = new SemanticNetworkStore(dataDir.resolve("semantic-network-tdb2").toString());
+
+        List<String> pinned = pinnedDuring(() -> onVirtualThreads(worker -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Todas as threads gravam a mesma palavra (disputa pelo escritor do TDB2) e uma própria
+                String word = "word" + worker;
+                store.save("shared", stored("shared"));
+                store.save(word, stored(word));
+                assertThat(store.find(word)).isPresent();
+                assertThat(store.contains("shared")).isTrue();
+            }
+        }));
+
+        assertThat(pinned).isEmpty();
+    }
+
+    @Test
+    void lexemeMirrorDoesNotPinVirtualThreads() throws Exception {
+        LexemeMirror mirror = new LexemeMirror(dataDir.resolve("lexemes-tdb2").toString());
+        LexemeMirrorImporter importer = new LexemeMirrorImporter(mirror);
+        Path sample = Path.of("src/test/resources/wikidata/english-lexemes-sample.ttl");
+        importer.importLexemes(sample);
+        String query = """
+                PREFIX wikibase: <http://wikiba.se/ontology#>
+                SELECT ?lexeme WHERE { ?lexeme wikibase:lemma "house"@en }
+                """;
+
+        List<String> pinned = pinnedDuring(() -> onVirtualThreads(worker -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Uma das threads reimporta (transações de escrita) enquanto as outras consultam; durante
+                // a importação as consultas veem só os lotes já confirmados, então o resultado pode vir vazio
+                if (worker == 0) {
+                    importer.importLexemes(sample);
+                }
+                mirror.select(query, solution -> solution.getResource("lexeme"));
+            }
+        }));
+
+        assertThat(pinned).isEmpty();
+        List<String> lexemes = new ArrayList<>();
+        mirror.select(query, solution -> lexemes.add(solution.getResource("lexeme").getURI()));
+        assertThat(lexemes).containsExactly("http://www.wikidata.org/entity/L1347");
+    }
+
+    @Test
+    void jdbcDoesNotPinVirtualThreads() throws Exception {
+        String url = System.getenv().getOrDefault("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/englishforalltime");
+        String username = System.getenv().getOrDefault("SPRING_DATASOURCE_USERNAME", "labes");
+        String password = System.getenv().getOrDefault("SPRING_DATASOURCE_PASSWORD", "labes");
+        assumeTrue(isReachable(url, username, password), "Postgres indisponível em " + url);
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl(url);
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            // Menos conexões que threads: parte delas espera pelo pool
+            dataSource.setMaximumPoolSize(4);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            List<String> pinned = pinnedDuring(() -> onVirtualThreads(worker -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    jdbcTemplate.queryForObject("SELECT pg_sleep(0.01)::text", String.class);
+                    assertThat(jdbcTemplate.queryForObject("SELECT ?::int", Integer.class, worker)).isEqualTo(worker);
+                }
+            }));
+
+            assertThat(pinned).isEmpty();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run(int worker) throws Exception;
+    }
+
+    // Pilhas (resumidas) dos eventos de pinning registrados enquanto a carga rodava
+    private static List<String> pinnedDuring(Workload workload) throws Exception {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> pinned.add(describe(event)));
+            recording.startAsync();
+            workload.run();
+            // stop() entrega os eventos ainda não lidos antes de retornar
+            recording.stop();
+        }
+        return pinned;
+    }
+
+    private static void onVirtualThreads(Worker worker) throws Exception {
+        List<Future<?>> tasks = new ArrayList<>(CONCURRENCY);
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                int id = i;
+                tasks.add(threads.submit(() -> {
+                    worker.run(id);
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return PINNED_EVENT + " sem pilha";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(15)
+                .map(VirtualThreadPinningTest::frame)
+                .collect(Collectors.joining("\n  ", PINNED_EVENT + " por " + event.getDuration().toMillis() + " ms:\n  ", ""));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static boolean isReachable(String url, String username, String password) {
+        DriverManager.setLoginTimeout(2);
+        try (Connection ignored = DriverManager.getConnection(url, username, password)) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static SemanticNetworkStore.StoredNetwork stored(String word) {
+        SemanticNetworkDTO network = new SemanticNetworkDTO(word, "Etimologia de " + word, "família de " + word,
+                List.of(new RelatedWord("synonym-" + word, "synonym", 0.8)),
+                List.of(new RelatedWord("antonym-" + word, "antonym", null)),
+                List.of(),
+                List.of("cognate-" + word),
+                new WordOrigin("Old English", word + "an", "origem"),
+                List.of(new LanguageConnection("German", word + "en", "significado")));
+        return new SemanticNetworkStore.StoredNetwork(network, System.currentTimeMillis(), "details", "definition");
+    }
+}
@@ -0,0 +1,94 @@
+package com.backend.service;
+
+import com.backend.Util.RefreshingCache;
+import com.backend.Util.Timestamped;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class WikidataDefinitionServiceTest {
+
+    private static final Path SAMPLE = Path.of("src/test/resources/wikidata/english-lexemes-sample.ttl");
+
+    @TempDir
+    Path dataDir;
+
+    private final UpstreamGuard upstreamGuard = mock(UpstreamGuard.class);
+    private final HttpClient httpClient = mock(HttpClient.class);
+    private LexemeMirror lexemeMirror;
+    private WikidataDefinitionService service;
+
+    @BeforeEach
+    void importSample() throws IOException {
+        lexemeMirror = new LexemeMirror(dataDir.resolve("lexemes-tdb2").toString());
+        new LexemeMirrorImporter(lexemeMirror).importLexemes(SAMPLE);
+
+        Cache<String, Timestamped<String>> cache = Caffeine.newBuilder()
+                .expireAfter(RefreshingCache.<String>expiry(Duration.ofDays(14)))
+                .build();
+        RefreshingCache<String> definitionCache = new RefreshingCache<>("wikidata-definitions", cache,
+                Duration.ofDays(1), Duration.ofDays(7), Duration.ofDays(7), Runnable::run, RateLimiter.ofDefaults("cache-refresh"));
+        service = new WikidataDefinitionService(definitionCache, upstreamGuard, httpClient, lexemeMirror);
+        ReflectionTestUtils.setField(service, "batchSize", 50);
+        ReflectionTestUtils.setField(service, "timeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(service, "remoteFallback", false);
+    }
+
+    @Test
+    void resolvesDefinitionsFromTheMirrorWithoutRemoteCalls() {
+        Map<String, String> definitions = service.definitionsOf(List.of("House", "cat", "english", "haus", "unknownword"));
+
+        assertThat(lexemeMirror.isAvailable()).isTrue();
+        assertThat(definitions).containsOnly(
+                Map.entry("house", "Definição da Wikidata: building used as a home"),
+                // Só a definição em inglês do sentido
+                Map.entry("cat", "Definição da Wikidata: domesticated species of feline"),
+                // Lema com inicial maiúscula no dump
+                Map.entry("english", "Definição da Wikidata: the West Germanic language of England"),
+                // Lexema em alemão não é importado
+                Map.entry("haus", "Nenhuma definição foi encontrada na base de dados lexical da Wikidata para 'haus'."),
+                Map.entry("unknownword", "Nenhuma definição foi encontrada na base de dados lexical da Wikidata para 'unknownword'."));
+        verifyNoInteractions(upstreamGuard, httpClient);
+    }
+
+    @Test
+    void cachesMirrorDefinitionsForSingleLookups() {
+        assertThat(service.definitionOf("cat")).isEqualTo("Definição da Wikidata: domesticated species of feline");
+        assertThat(service.cachedDefinition("Cat")).isEqualTo("Definição da Wikidata: domesticated species of feline");
+        assertThat(service.definitionsOf(List.of("cat"))).containsEntry("cat", "Definição da Wikidata: domesticated species of feline");
+        verifyNoInteractions(upstreamGuard, httpClient);
+    }
+
+    @Test
+    void queriesWikidataOnlyForWordsMissingFromTheMirrorWhenFallbackIsEnabled() {
+        ReflectionTestUtils.setField(service, "remoteFallback", true);
+        doReturn(Map.of()).when(upstreamGuard).protect(eq(UpstreamGuard.Upstream.WIKIDATA), any());
+
+        Map<String, String> definitions = service.definitionsOf(List.of("house", "unknownword"));
+
+        assertThat(definitions).containsEntry("house", "Definição da Wikidata: building used as a home");
+        assertThat(definitions).containsEntry("unknownword",
+                "Nenhuma definição foi encontrada na base de dados lexical da Wikidata para 'unknownword'.");
+        verify(upstreamGuard, times(1)).protect(eq(UpstreamGuard.Upstream.WIKIDATA), any());
+    }
+}
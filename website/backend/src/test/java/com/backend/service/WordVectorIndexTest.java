@@ -0,0 +1,155 @@
+package com.backend.service;
+
+import com.backend.service.WordVectorIndex.Neighbour;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Importação de vetores (WordVectorImporter) seguida do reload do WordVectorIndex num diretório temporário.
+ */
+class WordVectorIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void importsNormalizedVectorsAndSkipsDuplicatesAndInvalidLines() throws IOException {
+        WordVectorIndex index = new WordVectorIndex(directory.resolve("index").toString());
+        assertThat(index.isAvailable()).isFalse();
+        assertThat(index.similarity("paris", "london")).isNull();
+
+        Path glove = write("glove.txt", """
+                Paris 3 4 0
+                london 0 5 0
+                paris 1 0 0
+                zero 0 0 0
+                short 1 2
+                bad 1 x 2
+                rome 0 0 2
+                """);
+        int imported = new WordVectorImporter(index).importVectors(glove);
+
+        assertThat(imported).isEqualTo(3);
+        assertThat(index.isAvailable()).isTrue();
+        // Vetores gravados com norma 1: a similaridade consigo mesmo é 1
+        assertThat(index.similarity("rome", "rome")).isCloseTo(1f, within(1e-6f));
+        // Ficou o primeiro "paris" do arquivo, (3, 4, 0) / 5
+        assertThat(index.similarity("PARIS", "london")).isCloseTo(0.8f, within(1e-6f));
+        assertThat(index.similarity("paris", "rome")).isCloseTo(0f, within(1e-6f));
+        assertThat(index.similarity("paris", "zero")).isNull();
+    }
+
+    @Test
+    void readsFastTextAndWord2VecFiles() throws IOException {
+        WordVectorIndex index = new WordVectorIndex(directory.resolve("index").toString());
+        WordVectorImporter importer = new WordVectorImporter(index);
+
+        importer.importVectors(write("vectors.vec", "2 2\ncat 1 0\ndog 1 1\n"));
+        assertThat(index.similarity("cat", "dog")).isCloseTo((float) (1 / Math.sqrt(2)), within(1e-6f));
+
+        // Um novo import substitui o anterior
+        Path binary = directory.resolve("vectors.bin");
+        try (OutputStream out = Files.newOutputStream(binary)) {
+            out.write("2 2\n".getBytes(StandardCharsets.US_ASCII));
+            writeBinary(out, "cat", 0, 2);
+            writeBinary(out, "mouse", 3, 0);
+        }
+        assertThat(importer.importVectors(binary)).isEqualTo(2);
+        assertThat(index.similarity("cat", "mouse")).isCloseTo(0f, within(1e-6f));
+        assertThat(index.similarity("cat", "dog")).isNull();
+    }
+
+    @Test
+    void mostSimilarMatchesABruteForceScan() throws IOException {
+        int words = 500;
+        int dimensions = 24;
+        Random random = new Random(11);
+        float[][] vectors = new float[words][dimensions];
+        StringBuilder file = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            file.append("word").append(w);
+            for (int d = 0; d < dimensions; d++) {
+                String value = String.format(Locale.ROOT, "%.6f", random.nextFloat() * 2 - 1);
+                vectors[w][d] = Float.parseFloat(value);
+                file.append(' ').append(value);
+            }
+            file.append('\n');
+        }
+        WordVectorIndex index = new WordVectorIndex(directory.resolve("index").toString());
+        new WordVectorImporter(index).importVectors(write("random.txt", file.toString()));
+
+        for (int query : new int[]{0, 17, 250, 499}) {
+            List<String> expected = IntStream.range(0, words)
+                    .filter(w -> w != query)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(w -> -cosine(vectors[query], vectors[w])))
+                    .limit(10)
+                    .map(w -> "word" + w)
+                    .toList();
+
+            List<Neighbour> neighbours = index.mostSimilar("word" + query, 10);
+
+            assertThat(neighbours).extracting(Neighbour::word).containsExactlyElementsOf(expected);
+            assertThat(neighbours.get(0).similarity())
+                    .isCloseTo((float) cosine(vectors[query], vectors[Integer.parseInt(expected.get(0).substring(4))]),
+                            within(1e-4f));
+        }
+        assertThat(index.mostSimilar("word0", words + 10)).hasSize(words - 1);
+        assertThat(index.mostSimilar("ausente", 10)).isEmpty();
+        assertThat(index.mostSimilar("word0", 0)).isEmpty();
+    }
+
+    @Test
+    void refusesAFileWithoutVectors() throws IOException {
+        WordVectorIndex index = new WordVectorIndex(directory.resolve("index").toString());
+
+        assertThatThrownBy(() -> new WordVectorImporter(index).importVectors(write("empty.txt", "só texto\n")))
+                .isInstanceOf(IOException.class);
+        assertThat(index.isAvailable()).isFalse();
+    }
+
+    private Path write(String name, String contents) throws IOException {
+        Path path = directory.resolve(name);
+        Files.writeString(path, contents, StandardCharsets.UTF_8);
+        return path;
+    }
+
+    private static void writeBinary(OutputStream out, String word, float... vector) throws IOException {
+        out.write((word + " ").getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (float value : vector) {
+            buffer.putFloat(value);
+        }
+        out.write(buffer.array());
+        out.write('\n');
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.support;
+
+import com.backend.persistence.CourseRepository;
+import com.backend.persistence.TranslationMemoryRepository;
+import com.backend.persistence.UserRepository;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Repositórios e JdbcTemplate de mentira para os testes que sobem a aplicação com o perfil
+ * "offline" (sem Postgres). Os testes configuram os mocks quando precisam de dados.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class OfflineTestConfiguration {
+
+    @Bean
+    UserRepository userRepository() {
+        return Mockito.mock(UserRepository.class);
+    }
+
+    @Bean
+    CourseRepository courseRepository() {
+        return Mockito.mock(CourseRepository.class);
+    }
+
+    @Bean
+    TranslationMemoryRepository translationMemoryRepository() {
+        return Mockito.mock(TranslationMemoryRepository.class);
+    }
+
+    @Bean
+    JdbcTemplate jdbcTemplate() {
+        return Mockito.mock(JdbcTemplate.class);
+    }
+}
@@ -0,0 +1,135 @@
+package com.backend.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dicionário e MyMemory locais (HttpServer do JDK) que demoram um tempo fixo (cada um o seu) para
+ * responder, para testes sem depender das APIs reais. Cada requisição é atendida numa thread virtual, então
+ * o servidor aguenta tantas requisições simultâneas quantas chegarem. Palavras marcadas com
+ * {@link #addMissingWords(String...)} recebem o 404 do dicionário.
+ */
+public class StubUpstreamServer implements AutoCloseable {
+
+    private static final String DICTIONARY_PATH = "/api/v2/entries/en/";
+    private static final String TRANSLATION_PATH = "/get";
+    private static final String NOT_FOUND = """
+            {"title": "No Definitions Found", "message": "Sorry pal, we couldn't find definitions for the word you were looking for."}
+            """;
+
+    private final HttpServer server;
+    private final Duration dictionaryDelay;
+    private final Duration translationDelay;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicInteger dictionaryRequests = new AtomicInteger();
+    private final Set<String> missingWords = ConcurrentHashMap.newKeySet();
+
+    private record Reply(int status, String body) {
+    }
+
+    public StubUpstreamServer(Duration delay) throws IOException {
+        this(delay, delay);
+    }
+
+    public StubUpstreamServer(Duration dictionaryDelay, Duration translationDelay) throws IOException {
+        this.dictionaryDelay = dictionaryDelay;
+        this.translationDelay = translationDelay;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(DICTIONARY_PATH, exchange -> respond(exchange, dictionaryDelay, () -> {
+            dictionaryRequests.incrementAndGet();
+            String word = exchange.getRequestURI().getPath().substring(DICTIONARY_PATH.length());
+            return missingWords.contains(word) ? new Reply(404, NOT_FOUND) : new Reply(200, dictionaryEntry(word));
+        }));
+        server.createContext(TRANSLATION_PATH, exchange -> respond(exchange, translationDelay, () -> {
+            String query = exchange.getRequestURI().getRawQuery();
+            return new Reply(200, translation(query == null ? "" : query));
+        }));
+        server.start();
+    }
+
+    public String dictionaryUrl() {
+        return baseUrl() + DICTIONARY_PATH.substring(0, DICTIONARY_PATH.length() - 1);
+    }
+
+    public String translationUrl() {
+        return baseUrl() + TRANSLATION_PATH;
+    }
+
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public int dictionaryRequests() {
+        return dictionaryRequests.get();
+    }
+
+    public void addMissingWords(String... words) {
+        missingWords.addAll(Set.of(words));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void respond(HttpExchange exchange, Duration delay, Supplier<Reply> reply) throws IOException {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (exchange) {
+            Thread.sleep(delay);
+            Reply response = reply.get();
+            byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            // Sem keep-alive: o HttpServer fecha conexões ociosas por conta própria, e o cliente poderia
+            // reutilizar uma já fechada
+            exchange.getResponseHeaders().set("Connection", "close");
+            exchange.sendResponseHeaders(response.status(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static String dictionaryEntry(String word) {
+        return """
+                [{"word": "%s", "phonetics": [{"text": "/%s/"}],
+                  "meanings": [{"partOfSpeech": "noun",
+                                "definitions": [{"definition": "Definition of %s.", "example": "A %s."}],
+                                "synonyms": []}]}]
+                """.formatted(word, word, word, word);
+    }
+
+    private static String translation(String query) {
+        String text = "";
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("q=")) {
+                text = URLDecoder.decode(parameter.substring(2), StandardCharsets.UTF_8);
+            }
+        }
+        return """
+                {"responseData": {"translatedText": "tradução de %s"}, "responseStatus": 200}
+                """.formatted(text);
+    }
+}